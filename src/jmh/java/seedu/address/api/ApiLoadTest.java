@@ -0,0 +1,230 @@
+package seedu.address.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BackgroundInternBookSaver;
+import seedu.address.storage.JsonInternBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Load test of the {@link ApiServer}. Reports the requests served per second and the latency percentiles of reads
+ * and writes.
+ * <p>
+ * The server runs in this process on a model of {@code size} synthetic companies, saving to a temporary folder in the
+ * background as the application does. {@code clients} threads each send one request at a time for
+ * {@code seconds} seconds, after {@code warmup} seconds that are not measured. {@code writes} percent of the
+ * requests add a company. The rest find companies by a number in their name, or get the reminders.
+ * <p>
+ * Usage: {@code ./gradlew apiLoadTest --args="--size=10000 --clients=16 --seconds=10 --warmup=3 --writes=10"}
+ */
+public class ApiLoadTest {
+
+    private static final int REMINDERS_PERCENT_OF_READS = 20;
+
+    private final int size;
+    private final int clientCount;
+    private final int seconds;
+    private final int warmupSeconds;
+    private final int writePercent;
+    private final AtomicInteger nextCompanyNumber = new AtomicInteger();
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private ApiLoadTest(Map<String, String> options) {
+        size = Integer.parseInt(options.getOrDefault("size", "10000"));
+        clientCount = Integer.parseInt(options.getOrDefault("clients", "16"));
+        seconds = Integer.parseInt(options.getOrDefault("seconds", "10"));
+        warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "3"));
+        writePercent = Integer.parseInt(options.getOrDefault("writes", "10"));
+    }
+
+    /**
+     * Runs the load test with the options given as {@code --name=value} arguments.
+     */
+    public static void main(String[] args) throws Exception {
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        ApiServer.disableResponseDelay();
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] nameAndValue = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(nameAndValue[0], nameAndValue.length > 1 ? nameAndValue[1] : "");
+        }
+        new ApiLoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        Path folder = Files.createTempDirectory("api-load-test");
+        StorageManager storage = new StorageManager(new JsonInternBookStorage(folder.resolve("internBook.json")),
+                new JsonUserPrefsStorage(folder.resolve("userPrefs.json")));
+        UserPrefs userPrefs = new UserPrefs();
+        Model model = new ModelManager(SampleDataUtil.getSyntheticInternBook(size), userPrefs);
+        ExecutorService modelThread = Executors.newSingleThreadExecutor();
+
+        try (BackgroundInternBookSaver saver = new BackgroundInternBookSaver(storage, userPrefs.getSaveSettings());
+                ApiServer apiServer = new ApiServer(new LogicManager(model, storage, saver), model, modelThread,
+                        Clock.systemDefaultZone(), ApiServer.getDefaultWorkerCount())) {
+            apiServer.start(0);
+            String baseUri = "http://127.0.0.1:" + apiServer.getPort();
+            System.out.printf("%d companies, %d clients, %d%% writes, %d worker threads%n", size, clientCount,
+                    writePercent, ApiServer.getDefaultWorkerCount());
+
+            runClients(baseUri, warmupSeconds, new Results());
+            Results results = new Results();
+            runClients(baseUri, seconds, results);
+            results.print(seconds);
+        } finally {
+            modelThread.shutdown();
+            modelThread.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Runs {@link #clientCount} clients against the server at {@code baseUri} for {@code durationSeconds} seconds,
+     * and adds their measurements to {@code results}.
+     */
+    private void runClients(String baseUri, int durationSeconds, Results results) throws InterruptedException {
+        long endNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        CountDownLatch finished = new CountDownLatch(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            int clientNumber = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    results.add(runClient(baseUri, clientNumber, endNanos));
+                } finally {
+                    finished.countDown();
+                }
+            }, "load-test-client-" + i);
+            thread.start();
+        }
+        finished.await();
+    }
+
+    private Results runClient(String baseUri, int clientNumber, long endNanos) {
+        Random random = new Random(clientNumber);
+        Results results = new Results();
+        while (System.nanoTime() < endNanos) {
+            boolean isWrite = random.nextInt(100) < writePercent;
+            HttpRequest request = isWrite
+                    ? createAddRequest(baseUri, nextCompanyNumber.getAndIncrement())
+                    : createReadRequest(baseUri, random);
+
+            long startNanos = System.nanoTime();
+            boolean isSuccess;
+            try {
+                isSuccess = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                isSuccess = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            results.record(isWrite, System.nanoTime() - startNanos, isSuccess);
+        }
+        return results;
+    }
+
+    private HttpRequest createReadRequest(String baseUri, Random random) {
+        String pathAndQuery = random.nextInt(100) < REMINDERS_PERCENT_OF_READS
+                ? ApiServer.REMINDERS_PATH
+                : ApiServer.COMPANIES_PATH + "?" + ApiServer.FIND_PARAMETER + "=" + random.nextInt(size);
+        return HttpRequest.newBuilder(URI.create(baseUri + pathAndQuery)).timeout(Duration.ofMinutes(1)).build();
+    }
+
+    private static HttpRequest createAddRequest(String baseUri, int companyNumber) {
+        String body = "{\"command\": \"add -n Load Test Company " + companyNumber
+                + " -t load test -e load" + companyNumber + "@example.com\"}";
+        return HttpRequest.newBuilder(URI.create(baseUri + ApiServer.COMMANDS_PATH))
+                .timeout(Duration.ofMinutes(1))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * The latencies of the reads and writes of one or more clients.
+     */
+    private static class Results {
+        private long[] readNanos = new long[1024];
+        private long[] writeNanos = new long[1024];
+        private int readCount;
+        private int writeCount;
+        private int errorCount;
+
+        void record(boolean isWrite, long nanos, boolean isSuccess) {
+            if (!isSuccess) {
+                errorCount++;
+            }
+            if (isWrite) {
+                writeNanos = append(writeNanos, writeCount++, nanos);
+            } else {
+                readNanos = append(readNanos, readCount++, nanos);
+            }
+        }
+
+        synchronized void add(Results other) {
+            for (int i = 0; i < other.readCount; i++) {
+                readNanos = append(readNanos, readCount++, other.readNanos[i]);
+            }
+            for (int i = 0; i < other.writeCount; i++) {
+                writeNanos = append(writeNanos, writeCount++, other.writeNanos[i]);
+            }
+            errorCount += other.errorCount;
+        }
+
+        private static long[] append(long[] values, int index, long value) {
+            long[] result = index < values.length ? values : Arrays.copyOf(values, values.length * 2);
+            result[index] = value;
+            return result;
+        }
+
+        synchronized void print(int seconds) {
+            int total = readCount + writeCount;
+            System.out.printf("%d requests (%d reads, %d writes), %d errors%n", total, readCount, writeCount,
+                    errorCount);
+            System.out.printf("Throughput: %.0f requests/s%n", (double) total / seconds);
+            long[] allNanos = Arrays.copyOf(readNanos, total);
+            System.arraycopy(writeNanos, 0, allNanos, readCount, writeCount);
+            printLatencies("All   ", allNanos, total);
+            printLatencies("Reads ", readNanos, readCount);
+            printLatencies("Writes", writeNanos, writeCount);
+        }
+
+        private static void printLatencies(String label, long[] nanos, int count) {
+            if (count == 0) {
+                return;
+            }
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            System.out.printf("%s latency: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", label,
+                    sorted[percentileIndex(count, 50)] / 1e6, sorted[percentileIndex(count, 99)] / 1e6,
+                    sorted[count - 1] / 1e6);
+        }
+
+        private static int percentileIndex(int count, int percentile) {
+            return Math.min(count - 1, (int) Math.ceil(count * percentile / 100.0) - 1);
+        }
+    }
+}
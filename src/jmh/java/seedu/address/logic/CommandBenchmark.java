@@ -0,0 +1,87 @@
+package seedu.address.logic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.InternBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures how long parsing and executing each kind of command take on a model of {@code size} synthetic companies.
+ * <p>
+ * Commands that change the model are run together with a command that undoes the change, so that every invocation
+ * starts from the same data. The reported time is for the whole group of commands. Saving to storage is not
+ * included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"add", "edit", "find", "list", "mark", "sort", "reminder"})
+    private String command;
+
+    private final InternBookParser parser = new InternBookParser();
+    private Model model;
+    private String[] commandTexts;
+
+    /**
+     * Creates a model of {@code size} synthetic companies and the command texts for {@code command}.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SampleDataUtil.getSyntheticInternBook(size), new UserPrefs());
+
+        Map<String, String[]> commandGroups = new HashMap<>();
+        // The company list is not sorted, so the added company is shown last
+        commandGroups.put("add", new String[] {
+            "add -n Zzz Benchmark Company -t software engineer -e benchmark@example.com -p 91234567",
+            "delete " + (size + 1)});
+        commandGroups.put("edit", new String[] {"edit 1 -p 91234567", "edit 1 -p 98765432"});
+        commandGroups.put("find", new String[] {"find Gra"});
+        commandGroups.put("list", new String[] {"list"});
+        commandGroups.put("mark", new String[] {"mark 1", "unmark 1"});
+        commandGroups.put("sort", new String[] {"sort a", "sort s"});
+        commandGroups.put("reminder", new String[] {"reminder -r 30"});
+        commandTexts = commandGroups.get(command);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws ParseException {
+        for (String commandText : commandTexts) {
+            blackhole.consume(parser.parseCommand(commandText));
+        }
+    }
+
+    @Benchmark
+    public void parseAndExecute(Blackhole blackhole) throws CommandException, ParseException {
+        for (String commandText : commandTexts) {
+            blackhole.consume(parser.parseCommand(commandText).execute(model));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.InternBookParser;
+import seedu.address.model.InternBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures how many commands per second the {@code run} command executes from a script of {@value #SCRIPT_LENGTH}
+ * commands, on a model of {@code size} synthetic companies.
+ * <p>
+ * The {@code add} script only adds companies, so it runs as a single batch. The {@code mixed} script adds companies,
+ * edits them and marks them by index, so a new batch is started for every edit and mark. Every invocation runs the
+ * script on a fresh copy of the same companies. Saving to storage is not included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunCommandBenchmark {
+
+    private static final int SCRIPT_LENGTH = 10_000;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"add", "mixed"})
+    private String script;
+
+    private final InternBookParser parser = new InternBookParser();
+    private InternBook internBook;
+    private Path scriptPath;
+    private Model model;
+
+    /**
+     * Creates {@code size} synthetic companies and the {@code script} to run on them.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        internBook = SampleDataUtil.getSyntheticInternBook(size);
+
+        List<String> lines = new ArrayList<>(SCRIPT_LENGTH);
+        for (int i = 0; lines.size() < SCRIPT_LENGTH; i++) {
+            // The company list is not sorted, so the added company is shown last
+            lines.add("add -n Script Company " + i + " -t software engineer -e script" + i + "@example.com"
+                    + " -t backend -t java -t remote");
+            if (script.equals("mixed")) {
+                lines.add("edit " + (size + i + 1) + " -p 9" + String.format("%07d", i));
+                lines.add("mark " + (size + i + 1));
+            }
+        }
+        scriptPath = Files.createTempFile("run-command-benchmark", ".txt");
+        Files.write(scriptPath, lines.subList(0, SCRIPT_LENGTH));
+    }
+
+    /**
+     * Creates a fresh model of the synthetic companies for the next invocation.
+     */
+    @Setup(Level.Invocation)
+    public void setUpModel() {
+        model = new ModelManager(InternBook.snapshotOf(internBook), new UserPrefs());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(scriptPath);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCRIPT_LENGTH)
+    public CommandResult run() throws CommandException {
+        return new RunCommand(scriptPath, parser::parseCommand).execute(model);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ENDDATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTDATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long tokenizing and parsing the arguments of {@code add} and {@code edit} commands with
+ * {@code tagCount} tags take.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int tagCount;
+
+    private final AddCommandParser addCommandParser = new AddCommandParser();
+    private final EditCommandParser editCommandParser = new EditCommandParser();
+    private String addArgs;
+    private String editArgs;
+
+    /**
+     * Creates the arguments of an {@code add} and an {@code edit} command that set every field and {@code tagCount}
+     * different tags.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder tags = new StringBuilder();
+        for (int i = 0; i < tagCount; i++) {
+            tags.append(' ').append(PREFIX_TAG).append(" Software Engineer Intern ").append(i);
+        }
+        String fields = " " + PREFIX_PHONE + " 91234567 " + PREFIX_EMAIL + " benchmark@example.com "
+                + PREFIX_STARTDATE + " 2024-05-13 " + PREFIX_ENDDATE + " 2024-08-09" + tags;
+        addArgs = " " + PREFIX_NAME + " Benchmark Company With A Long Name" + fields;
+        editArgs = " 1 " + PREFIX_NAME + " Benchmark Company With A Long Name" + fields;
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(addArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_STARTDATE,
+                PREFIX_ENDDATE, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public AddCommand parseAdd() throws ParseException {
+        return addCommandParser.parse(addArgs);
+    }
+
+    @Benchmark
+    public EditCommand parseEdit() throws ParseException {
+        return editCommandParser.parse(editArgs);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@code InternBookParser} takes to parse short commands, whose time is mostly spent finding the
+ * command and its parser rather than parsing arguments.
+ * <p>
+ * {@code sharedParse} runs on 4 threads that share one parser, to show that parsing does not contend on any lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternBookParserBenchmark {
+
+    @Param({"list", "delete 3", "mark 1, 3-5", "find Gra", "reminder -r 30", "unm 3"})
+    private String commandText;
+
+    private final InternBookParser parser = new InternBookParser();
+
+    @Benchmark
+    public Command parse() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Command sharedParse() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.ReminderSettings;
+import seedu.address.model.company.NameContainsKeywordsPredicate;
+import seedu.address.model.reminder.Days;
+import seedu.address.model.reminder.ReminderOnOff;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures how long finding companies and computing or updating the reminder list take on a model of {@code size}
+ * synthetic companies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager model;
+    private NameContainsKeywordsPredicate findPredicate;
+    private ReminderSettings reminderSettings;
+    private ReminderSettings shortReminderSettings;
+    private LocalDate today;
+
+    /**
+     * Creates a model of {@code size} synthetic companies with reminders turned on.
+     */
+    @Setup
+    public void setUp() {
+        reminderSettings = new ReminderSettings(new ReminderOnOff("true"), new Days("30"));
+        shortReminderSettings = new ReminderSettings(new ReminderOnOff("true"), new Days("7"));
+        today = LocalDate.now();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setReminderSettings(reminderSettings);
+        model = new ModelManager(SampleDataUtil.getSyntheticInternBook(size), userPrefs);
+        findPredicate = new NameContainsKeywordsPredicate("Gra");
+    }
+
+    /**
+     * Filters the companies by a keyword and then shows all companies again, returning the number of matches.
+     */
+    @Benchmark
+    public int find() {
+        model.updateFilteredCompanyList(findPredicate);
+        int matches = model.getFilteredCompanyList().size();
+        model.updateFilteredCompanyList(PREDICATE_SHOW_ALL_PERSONS);
+        return matches;
+    }
+
+    /**
+     * Computes the reminder list from scratch, returning its size.
+     */
+    @Benchmark
+    public int computeReminderList() {
+        return model.getInternBook().getReminderList(reminderSettings, today).size();
+    }
+
+    /**
+     * Shortens the reminder window and lengthens it again, which only updates the companies entering or leaving
+     * the live reminder list. Returns the size of the list.
+     */
+    @Benchmark
+    public int changeReminderDays() {
+        model.setReminderSettings(shortReminderSettings);
+        model.setReminderSettings(reminderSettings);
+        return model.getReminderList().size();
+    }
+}
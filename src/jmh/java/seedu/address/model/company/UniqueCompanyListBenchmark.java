@@ -0,0 +1,85 @@
+package seedu.address.model.company;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the latency of operations on a {@code UniqueCompanyList} as the list grows.
+ * The average time per identity-based operation should stay roughly constant across the different {@code size}
+ * values, while sorting is expected to grow with {@code size}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueCompanyListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniqueCompanyList companies;
+    private Company middleCompany;
+    private Company newCompany;
+
+    /**
+     * Fills the list with {@code size} distinct companies.
+     */
+    @Setup
+    public void setUp() {
+        companies = new UniqueCompanyList();
+        for (int i = 0; i < size; i++) {
+            companies.add(SampleDataUtil.getSyntheticCompany(i));
+        }
+        middleCompany = companies.asUnmodifiableObservableList().get(size / 2);
+        if (middleCompany.isMarked()) {
+            companies.unmark(middleCompany);
+        }
+        newCompany = SampleDataUtil.getSyntheticCompany(size);
+    }
+
+    /**
+     * Adds a company to the end of the list and removes it again, keeping the list at {@code size} companies.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        companies.add(newCompany);
+        companies.remove(newCompany);
+    }
+
+    /**
+     * Marks and unmarks a company in the middle of the list.
+     */
+    @Benchmark
+    public void markThenUnmark() {
+        companies.mark(middleCompany);
+        companies.unmark(middleCompany);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return companies.contains(middleCompany);
+    }
+
+    /**
+     * Sorts the list by name and then by end date, so that each sort has to reorder the list.
+     */
+    @Benchmark
+    public boolean sortByNameThenEndDate() {
+        return companies.sortCompanyListByName() & companies.sortCompanyListByEndDate();
+    }
+}
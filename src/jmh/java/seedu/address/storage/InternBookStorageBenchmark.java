@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.durability.Durability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.InternBook;
+import seedu.address.model.ReadOnlyInternBook;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Compares how long the JSON and binary storages take to load and save an intern book of {@code size} companies.
+ * The size of each data file is printed when the trial ends.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class InternBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private Path folder;
+    private InternBookStorage storage;
+    private InternBook internBook;
+
+    /**
+     * Creates a data file of {@code size} synthetic companies in {@code format}.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("internBookStorageBenchmark");
+        // Durability.NONE keeps device flushes out of the comparison between formats
+        storage = "json".equals(format)
+                ? new JsonInternBookStorage(folder.resolve("internBook.json"), true, Durability.NONE)
+                : new BinaryInternBookStorage(folder.resolve("internBook.bin"), Durability.NONE);
+
+        internBook = SampleDataUtil.getSyntheticInternBook(size);
+        storage.saveInternBook(internBook);
+    }
+
+    /**
+     * Prints the size of the data file and deletes it.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Path filePath = storage.getInternBookFilePath();
+        System.out.println(format + " data file of " + size + " companies: " + Files.size(filePath) + " bytes");
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyInternBook load() throws DataLoadingException {
+        return storage.readInternBook().get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveInternBook(internBook);
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.dataformat.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.InternBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyInternBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryInternBookStorage;
+import seedu.address.storage.InternBookFileConverter;
+import seedu.address.storage.InternBookStorage;
+import seedu.address.storage.JournaledInternBookStorage;
+import seedu.address.storage.JsonInternBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Creates the config, preferences, storage and model that every way of starting the application needs.
+ * Nothing in this class uses the JavaFX toolkit, so that the application can also be started without a window.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code InternBookStorage} for the data file in {@code userPrefs}, in the format chosen in
+     * {@code config}. When the binary format is chosen but only the JSON data file exists yet, the JSON data is
+     * converted to a binary data file next to it.
+     */
+    public static InternBookStorage initInternBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        InternBookStorage jsonStorage = config.isJournaledDataFile()
+                ? new JournaledInternBookStorage(filePath, config.isCompactDataFile(),
+                        JournaledInternBookStorage.DEFAULT_COMPACTION_THRESHOLD_BYTES, config.getDataFileDurability())
+                : new JsonInternBookStorage(filePath, config.isCompactDataFile(), config.getDataFileDurability());
+        if (config.getDataFileFormat() != DataFileFormat.BINARY) {
+            return jsonStorage;
+        }
+
+        Path binaryFilePath = BinaryInternBookStorage.getBinaryFilePath(filePath);
+        InternBookStorage binaryStorage = new BinaryInternBookStorage(binaryFilePath, config.getDataFileDurability());
+        if (!Files.exists(binaryFilePath) && Files.exists(filePath)) {
+            logger.info("Converting data file " + filePath + " to binary data file " + binaryFilePath);
+            try {
+                InternBookFileConverter.convert(jsonStorage, binaryStorage);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to convert data file " + filePath + " : " + StringUtil.getDetails(e));
+            }
+        }
+        return binaryStorage;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getInternBookFilePath());
+
+        Optional<ReadOnlyInternBook> addressBookOptional;
+        ReadOnlyInternBook initialData;
+        try {
+            addressBookOptional = storage.readInternBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getInternBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            if (!addressBookOptional.isPresent()) {
+                saveInitialData(storage, initialData);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getInternBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new InternBook();
+        }
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Saves {@code initialData} to {@code storage}, so that the data file exists even if no command modifies it.
+     */
+    private static void saveInitialData(Storage storage, ReadOnlyInternBook initialData) {
+        try {
+            storage.saveInternBook(initialData);
+        } catch (IOException e) {
+            logger.warning("Failed to save data file : " + StringUtil.getDetails(e));
+        }
+    }
+}
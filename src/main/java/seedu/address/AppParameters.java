@@ -16,8 +16,11 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Path scriptPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +30,34 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, which are given as {@code --name=value} and mapped from name to value.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +65,39 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null) {
+            appParameters.setApiPort(parsePort(apiPortParameter));
+        }
         return appParameters;
     }
 
+    /**
+     * Returns the port number in {@code portParameter}, or null if it is not a valid port number.
+     * Port 0 means any free port.
+     */
+    private static Integer parsePort(String portParameter) {
+        int port;
+        try {
+            port = Integer.parseInt(portParameter.trim());
+        } catch (NumberFormatException e) {
+            port = -1;
+        }
+        if (port < 0 || port > MAX_PORT) {
+            logger.warning("Invalid API port " + portParameter + ". The API will not be started.");
+            return null;
+        }
+        return port;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -55,18 +110,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
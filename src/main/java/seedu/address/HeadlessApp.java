@@ -0,0 +1,298 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.api.ApiServer;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.InternBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.storage.BackgroundInternBookSaver;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application in a terminal, without a window.
+ * <p>
+ * The config, storage, model and logic are set up as in {@link MainApp}, but the JavaFX toolkit is never started,
+ * so the application is ready in a fraction of the time. Commands are read from the command-line arguments, one
+ * command per argument, or from standard input, one command per line, when there are none. Results are printed to
+ * standard output and errors to standard error.
+ * <p>
+ * With {@code --api-port=PORT}, the application also serves the API of {@link ApiServer} on {@code PORT} until
+ * {@code exit} is entered or standard input ends.
+ * <p>
+ * Usage: {@code java -jar internBook.jar --headless [--config=FILE] [--script=FILE] [--api-port=PORT] [COMMAND]...}
+ */
+public class HeadlessApp implements AutoCloseable {
+
+    public static final String PROMPT = "> ";
+    /** The usage instructions of every command that {@link InternBookParser} parses. */
+    public static final String MESSAGE_HELP = "Commands:\n"
+            + String.join("\n", new InternBookParser().getCommandUsages());
+
+    public static final String MESSAGE_SERVING_API = "Serving the API on %1$s with token %2$s, enter exit to stop";
+
+    /** Exit status when a command failed. */
+    public static final int EXIT_STATUS_FAILURE = 1;
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final Set<String> LISTING_COMMAND_WORDS =
+            Set.of(ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, SortCommand.COMMAND_WORD);
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final BackgroundInternBookSaver saver;
+    private final Logic logic;
+    private final InternBookParser commandWordParser = new InternBookParser();
+    private final PrintStream out;
+    private final PrintStream err;
+    private ExecutorService modelThread;
+    private ApiServer apiServer;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs commands on {@code model}, saves changes to {@code storage} through
+     * {@code saver}, and prints to {@code out} and {@code err}. If {@code saver} is null, changes are saved directly.
+     */
+    HeadlessApp(Model model, Storage storage, BackgroundInternBookSaver saver, PrintStream out, PrintStream err) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.model = model;
+        this.storage = storage;
+        this.saver = saver;
+        this.out = out;
+        this.err = err;
+        logic = new LogicManager(model, storage, saver);
+        logic.setSaveErrorHandler(err::println);
+    }
+
+    /**
+     * Sets up the application from the config file in {@code appParameters}, without starting the JavaFX toolkit.
+     */
+    static HeadlessApp create(AppParameters appParameters, PrintStream out, PrintStream err) {
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(AppInitializer.initInternBookStorage(config, userPrefs),
+                userPrefsStorage);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        BackgroundInternBookSaver saver = new BackgroundInternBookSaver(storage, userPrefs.getSaveSettings());
+        return new HeadlessApp(model, storage, saver, out, err);
+    }
+
+    /**
+     * Starts serving the API on {@code port}, or on any free port if {@code port} is 0, and returns the port.
+     * From then on, all commands are executed on one background thread, so that commands from the API and from this
+     * application never run at the same time.
+     *
+     * @throws IOException if the port cannot be listened on.
+     */
+    public int startApiServer(int port) throws IOException {
+        modelThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "model"));
+        apiServer = new ApiServer(logic, model, modelThread, Clock.systemDefaultZone(),
+                ApiServer.getDefaultWorkerCount());
+        apiServer.start(port);
+        return apiServer.getPort();
+    }
+
+    /**
+     * Executes {@code commandText} and prints its result. Returns true if the command succeeded.
+     */
+    public boolean execute(String commandText) {
+        if (modelThread == null) {
+            return executeNow(commandText);
+        }
+        try {
+            return modelThread.submit(() -> executeNow(commandText)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean executeNow(String commandText) {
+        CommandResult result;
+        try {
+            result = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return false;
+        }
+
+        out.println(result.isShowHelp() ? MESSAGE_HELP : result.getFeedbackToUser());
+        if (LISTING_COMMAND_WORDS.contains(getCommandWord(commandText))) {
+            printDisplayedCompanies();
+        }
+        return true;
+    }
+
+    /**
+     * Executes each of {@code commandTexts} in order. Returns 0 if all of them succeeded, or
+     * {@link #EXIT_STATUS_FAILURE} otherwise.
+     */
+    public int executeAll(List<String> commandTexts) {
+        boolean hasFailed = false;
+        for (String commandText : commandTexts) {
+            hasFailed |= !execute(commandText);
+        }
+        return hasFailed ? EXIT_STATUS_FAILURE : 0;
+    }
+
+    /**
+     * Executes the commands read from {@code in}, one per line, until {@code in} ends or an exit command is read.
+     * If {@code isInteractive}, a prompt is printed before each command. Returns 0 if all commands succeeded, or
+     * {@link #EXIT_STATUS_FAILURE} otherwise.
+     */
+    public int executeLines(BufferedReader in, boolean isInteractive) throws IOException {
+        boolean hasFailed = false;
+        while (true) {
+            if (isInteractive) {
+                out.print(PROMPT);
+                out.flush();
+            }
+            String line = in.readLine();
+            if (line == null) {
+                break;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (getCommandWord(line).equals(ExitCommand.COMMAND_WORD)) {
+                break;
+            }
+            hasFailed |= !execute(line);
+        }
+        return hasFailed ? EXIT_STATUS_FAILURE : 0;
+    }
+
+    /**
+     * Returns the full command word of {@code commandText}, which may be abbreviated, or an empty string if it has
+     * none.
+     */
+    private String getCommandWord(String commandText) {
+        return commandWordParser.findCommandWord(commandText).orElse("");
+    }
+
+    private void printDisplayedCompanies() {
+        List<Company> displayedCompanies = logic.getFilteredPersonList();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < displayedCompanies.size(); i++) {
+            builder.append(i + 1).append(". ").append(Messages.format(displayedCompanies.get(i))).append('\n');
+        }
+        out.print(builder);
+    }
+
+    /**
+     * Saves the changes that have not been saved yet and the user preferences.
+     */
+    @Override
+    public void close() {
+        if (apiServer != null) {
+            apiServer.close();
+        }
+        if (modelThread != null) {
+            modelThread.shutdown();
+            try {
+                modelThread.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (saver != null) {
+            try {
+                saver.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+                err.println(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage()));
+            }
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Runs the commands in {@code args}, or the commands read from standard input if {@code args} has none, and
+     * exits with status 0 if all of them succeeded.
+     */
+    public static void main(String[] args) throws IOException {
+        // Only warnings are shown in the terminal, so that they do not mix with the results of commands
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        // Sets a JVM-wide system property, so it is done here once rather than by the API server itself
+        ApiServer.disableResponseDelay();
+
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> commandTexts = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && arg.contains("=")) {
+                String[] nameAndValue = arg.substring(NAMED_PARAMETER_PREFIX.length()).split("=", 2);
+                namedParameters.put(nameAndValue[0], nameAndValue[1]);
+            } else {
+                commandTexts.add(arg);
+            }
+        }
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        if (appParameters.getScriptPath() != null) {
+            commandTexts.add(0, RunCommand.COMMAND_WORD + " " + appParameters.getScriptPath());
+        }
+
+        int exitStatus;
+        try (HeadlessApp app = create(appParameters, System.out, System.err)) {
+            Integer apiPort = appParameters.getApiPort();
+            if (apiPort != null) {
+                app.startApiServer(apiPort);
+                app.out.println(String.format(MESSAGE_SERVING_API, app.apiServer.getUrl(), app.apiServer.getToken()));
+            }
+            exitStatus = app.executeAll(commandTexts);
+            if (commandTexts.isEmpty() || apiPort != null) {
+                // The API is served until the user exits
+                BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+                exitStatus = Math.max(exitStatus, app.executeLines(in, System.console() != null));
+            }
+        }
+        System.exit(exitStatus);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +22,20 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When the first argument is {@code --headless}, the application runs in the terminal through {@link HeadlessApp}
+ * instead, and JavaFX is never started.
  */
 public class Main {
+    public static final String HEADLESS_FLAG = "--headless";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals(HEADLESS_FLAG)) {
+            HeadlessApp.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
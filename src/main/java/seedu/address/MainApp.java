@@ -2,28 +2,28 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.time.Clock;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
-import seedu.address.model.InternBook;
+import seedu.address.logic.ReminderScheduler;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyInternBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BackgroundInternBookSaver;
 import seedu.address.storage.InternBookStorage;
-import seedu.address.storage.JsonInternBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -38,13 +38,19 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    private static final String MESSAGE_SERVING_API = "Serving the API on %1$s with token %2$s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundInternBookSaver saver;
+    protected ReminderScheduler reminderScheduler;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+    private Integer apiPort;
 
     @Override
     public void init() throws Exception {
@@ -57,39 +63,49 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InternBookStorage internBookStorage = new JsonInternBookStorage(userPrefs.getAddressBookFilePath());
+        InternBookStorage internBookStorage = AppInitializer.initInternBookStorage(config, userPrefs);
         storage = new StorageManager(internBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = AppInitializer.initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundInternBookSaver(storage, userPrefs.getSaveSettings());
+        reminderScheduler = new ReminderScheduler(model, Clock.systemDefaultZone(), Platform::runLater);
+        logic = new LogicManager(model, storage, saver, reminderScheduler);
+        if (appParameters.getScriptPath() != null) {
+            runScript(appParameters.getScriptPath());
+        }
+        apiPort = appParameters.getApiPort();
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Starts serving the API on {@code port}, and prints the token that requests must carry to the terminal the
+     * application was started from. Commands sent to the API are executed on the JavaFX application thread, like
+     * commands typed into the window.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getInternBookFilePath());
+    private void startApiServer(int port) {
+        apiServer = new ApiServer(logic, model, Platform::runLater, Clock.systemDefaultZone(),
+                ApiServer.getDefaultWorkerCount());
+        try {
+            apiServer.start(port);
+            System.out.println(String.format(MESSAGE_SERVING_API, apiServer.getUrl(), apiServer.getToken()));
+        } catch (IOException e) {
+            logger.warning("Failed to start the API on port " + port + " : " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
+    }
 
-        Optional<ReadOnlyInternBook> addressBookOptional;
-        ReadOnlyInternBook initialData;
+    /**
+     * Runs the commands in the script at {@code scriptPath} before the application window is shown.
+     */
+    private void runScript(Path scriptPath) {
         try {
-            addressBookOptional = storage.readInternBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getInternBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getInternBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new InternBook();
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Failed to run script " + scriptPath + " : " + e.getMessage());
         }
-        return new ModelManager(initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -102,37 +118,7 @@ public class MainApp extends Application {
      * if {@code configFilePath} is null.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
@@ -141,41 +127,31 @@ public class MainApp extends Application {
      * reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting InternBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        reminderScheduler.reschedule();
+        if (apiPort != null) {
+            startApiServer(apiPort);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (apiServer != null) {
+            apiServer.close();
+        }
+        reminderScheduler.close();
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
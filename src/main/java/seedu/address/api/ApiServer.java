@@ -0,0 +1,511 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.InternBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.InternBookSnapshot;
+import seedu.address.model.Model;
+import seedu.address.model.company.Company;
+import seedu.address.storage.JsonAdaptedCompany;
+
+/**
+ * Serves the data of the application as JSON over HTTP, so that other tools on the same computer can read and change
+ * it. The server only listens on the loopback interface.
+ * <p>
+ * Listening on the loopback interface does not keep out web pages open in the user's browser, which can send
+ * requests to it, or reach it through a host name they control by DNS rebinding. Every request must therefore carry
+ * the token of the server, which is made up when the server is created, in an {@code Authorization: Bearer TOKEN}
+ * header. Requests that carry an {@code Origin} header, which browsers add to requests made by web pages, or whose
+ * {@code Host} is not the loopback address of the server, are rejected, and so are commands that are not sent as
+ * {@code application/json}. Browsers ask the server for permission before sending such requests from a web page,
+ * which it never gives.
+ * <p>
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /api/companies} returns all companies, or with {@code ?find=KEYWORD}, the companies that a
+ *     {@code find} command for {@code KEYWORD} would show.</li>
+ *     <li>{@code GET /api/reminders} returns the companies to remind the user about today.</li>
+ *     <li>{@code POST /api/commands} with a body of {@code {"command": "COMMAND"}} executes {@code COMMAND} as if it
+ *     was typed into the application, and returns its feedback. Indexes in commands refer to the list the
+ *     application is showing.</li>
+ * </ul>
+ * <p>
+ * Requests are handled by a bounded pool of worker threads. When every worker is busy and the queue of waiting
+ * requests is full, the thread accepting connections handles the next request itself, so that no new connections
+ * are accepted until a worker is free. Reads are served from an {@link ApiSnapshot} that is shared by all workers,
+ * so they run at the same time without waiting for the model's thread. A new snapshot is only made by the first read
+ * after a change, from the model's {@link Model#getInternBookSnapshot() snapshot of the intern book}. Commands are
+ * parsed on the workers and executed on the model's thread by a {@link CommandBatcher}, which executes commands that
+ * arrive together in one batch.
+ */
+public class ApiServer implements AutoCloseable {
+
+    public static final String COMPANIES_PATH = "/api/companies";
+    public static final String REMINDERS_PATH = "/api/reminders";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String FIND_PARAMETER = "find";
+
+    public static final String MESSAGE_NOT_FOUND = "No endpoint at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests";
+    public static final String MESSAGE_INVALID_REQUEST = "The request body must be a JSON object with a \"command\"";
+    public static final String MESSAGE_REQUEST_TOO_LARGE = "The request body is larger than %1$d bytes";
+    public static final String MESSAGE_EMPTY_KEYWORD = "The find keyword must not be blank";
+    public static final String MESSAGE_BUSY = "The application did not respond in time";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled, see the application log";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests must be made to the loopback address of the API";
+    public static final String MESSAGE_UNAUTHORIZED = "The request must carry the API token in an \"Authorization: "
+            + "Bearer TOKEN\" header";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "The request body must be sent as application/json";
+
+    public static final String AUTHORIZATION_SCHEME = "Bearer ";
+
+    static final int MAX_REQUEST_BYTES = 64 * 1024;
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_REQUEST_TOO_LARGE = 413;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private static final int QUEUE_CAPACITY_PER_WORKER = 64;
+    private static final int BACKLOG = 128;
+    private static final long TIMEOUT_SECONDS = 30;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final int TOKEN_BYTES = 32;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Model model;
+    private final Clock clock;
+    private final InternBookParser parser = new InternBookParser();
+    private final CommandBatcher commandBatcher;
+    private final ThreadPoolExecutor workers;
+    private final String token;
+    private HttpServer server;
+    /** The values of the {@code Host} header that requests may have, in lower case. */
+    private Set<String> allowedHosts = Set.of();
+    private volatile ApiSnapshot snapshot;
+
+    /**
+     * Creates an {@code ApiServer} that serves the data of {@code model} and executes commands through
+     * {@code logic} on the thread of {@code modelExecutor}, which must be the thread that modifies {@code model}.
+     * Requests are handled by {@code workerCount} threads, and today's date is read from {@code clock}.
+     */
+    public ApiServer(Logic logic, Model model, Executor modelExecutor, Clock clock, int workerCount) {
+        requireNonNull(logic);
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        requireNonNull(clock);
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be positive");
+        }
+        this.model = model;
+        this.clock = clock;
+        commandBatcher = new CommandBatcher(logic, model, modelExecutor);
+        token = createToken();
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount * QUEUE_CAPACITY_PER_WORKER), runnable -> {
+                    Thread thread = new Thread(runnable, "api-worker-" + workerNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Returns the default number of worker threads, which is the number of processors, but at least 2.
+     */
+    public static int getDefaultWorkerCount() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Turns off Nagle's algorithm for the connections of every HTTP server in this JVM, unless the
+     * {@code sun.net.httpserver.nodelay} system property that controls it is already set. The headers and the body of
+     * a response are written separately, so with Nagle's algorithm on, the body waits for the client's delayed
+     * acknowledgement of the headers, which adds about 40ms to every response.
+     * <p>
+     * As this sets a system property for the whole JVM, which is only read when the first HTTP server is created, it
+     * is not done by {@link #start(int)}, but must be called by the application at startup.
+     */
+    public static void disableResponseDelay() {
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    /**
+     * Starts listening on {@code port} of the loopback interface, or on any free port if {@code port} is 0.
+     * Responses are delayed by about 40ms unless {@link #disableResponseDelay()} was called at startup.
+     *
+     * @throws IOException if the port cannot be listened on.
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        server.createContext("/", this::handle);
+        server.setExecutor(workers);
+        int actualPort = server.getAddress().getPort();
+        allowedHosts = Set.of("127.0.0.1:" + actualPort, "localhost:" + actualPort, "[::1]:" + actualPort);
+        server.start();
+        logger.info("Serving the API on " + getUrl());
+    }
+
+    /**
+     * Returns the token that every request must carry in an {@code Authorization: Bearer TOKEN} header.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns the URL of the API, such as {@code http://127.0.0.1:8080/api}. Must only be called after
+     * {@link #start(int)}.
+     */
+    public String getUrl() {
+        String host = server.getAddress().getAddress().getHostAddress();
+        // an IPv6 address, such as ::1, must be enclosed in brackets in a URL
+        String urlHost = host.contains(":") ? "[" + host + "]" : host;
+        return "http://" + urlHost + ":" + getPort() + "/api";
+    }
+
+    /**
+     * Returns the port the server listens on. Must only be called after {@link #start(int)}.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for the requests being handled to finish.
+     */
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("API request: " + exchange.getRequestMethod() + " " + exchange.getRequestURI());
+            }
+            if (!isAllowed(exchange)) {
+                return;
+            }
+            switch (path) {
+            case COMPANIES_PATH:
+                if (isMethod(exchange, "GET")) {
+                    handleGetCompanies(exchange);
+                }
+                break;
+            case REMINDERS_PATH:
+                if (isMethod(exchange, "GET")) {
+                    handleGetReminders(exchange);
+                }
+                break;
+            case COMMANDS_PATH:
+                if (isMethod(exchange, "POST")) {
+                    handlePostCommand(exchange);
+                }
+                break;
+            default:
+                sendError(exchange, STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+            }
+        } catch (TimeoutException | RejectedExecutionException e) {
+            sendErrorIfNotResponding(exchange, STATUS_UNAVAILABLE, MESSAGE_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendErrorIfNotResponding(exchange, STATUS_UNAVAILABLE, MESSAGE_BUSY);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to handle API request " + exchange.getRequestURI(), e);
+            // The details of the failure stay in the log, so that clients learn nothing about the internals
+            sendErrorIfNotResponding(exchange, STATUS_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} may be handled: it does not come from a web page, is addressed to the
+     * loopback address of this server, carries the token of this server and, if it is a POST, has a JSON body.
+     * Otherwise, responds with an error and returns false.
+     */
+    private boolean isAllowed(HttpExchange exchange) throws IOException {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            sendError(exchange, STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+            return false;
+        }
+
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !allowedHosts.contains(host.toLowerCase(Locale.ROOT))) {
+            sendError(exchange, STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_HOST);
+            return false;
+        }
+
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(AUTHORIZATION_SCHEME)
+                || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                        authorization.substring(AUTHORIZATION_SCHEME.length()).getBytes(StandardCharsets.UTF_8))) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            sendError(exchange, STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+            return false;
+        }
+
+        boolean isPost = exchange.getRequestMethod().equals("POST");
+        if (isPost && !isJson(exchange.getRequestHeaders().getFirst("Content-Type"))) {
+            sendError(exchange, STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code contentType}, the value of a {@code Content-Type} header, is JSON with any parameters.
+     */
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parametersStart = contentType.indexOf(';');
+        String mediaType = parametersStart < 0 ? contentType : contentType.substring(0, parametersStart);
+        return mediaType.trim().equalsIgnoreCase(JSON_MEDIA_TYPE);
+    }
+
+    private static String createToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Returns true if {@code exchange} is a request with {@code method}. Otherwise, responds with an error and returns
+     * false.
+     */
+    private static boolean isMethod(HttpExchange exchange, String method) throws IOException {
+        if (exchange.getRequestMethod().equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        sendError(exchange, STATUS_METHOD_NOT_ALLOWED,
+                String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestURI().getPath(), method));
+        return false;
+    }
+
+    private void handleGetCompanies(HttpExchange exchange) throws IOException {
+        String keyword = getQueryParameter(exchange, FIND_PARAMETER);
+        if (keyword != null && keyword.isBlank()) {
+            sendError(exchange, STATUS_BAD_REQUEST, MESSAGE_EMPTY_KEYWORD);
+            return;
+        }
+
+        ApiSnapshot currentSnapshot = getSnapshot();
+        List<Company> companies = keyword == null
+                ? currentSnapshot.getCompanies()
+                : currentSnapshot.findCompanies(keyword);
+        try (JsonGenerator generator = startJson(exchange, STATUS_OK)) {
+            generator.writeStartObject();
+            writeCompanies(generator, companies);
+            generator.writeEndObject();
+        }
+    }
+
+    private void handleGetReminders(HttpExchange exchange) throws IOException {
+        ApiSnapshot currentSnapshot = getSnapshot();
+        try (JsonGenerator generator = startJson(exchange, STATUS_OK)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("isOn", currentSnapshot.isReminderOn());
+            writeCompanies(generator, currentSnapshot.getReminders());
+            generator.writeEndObject();
+        }
+    }
+
+    private void handlePostCommand(HttpExchange exchange)
+            throws IOException, InterruptedException, TimeoutException {
+        byte[] body = exchange.getRequestBody().readNBytes(MAX_REQUEST_BYTES + 1);
+        if (body.length > MAX_REQUEST_BYTES) {
+            sendError(exchange, STATUS_REQUEST_TOO_LARGE, String.format(MESSAGE_REQUEST_TOO_LARGE, MAX_REQUEST_BYTES));
+            return;
+        }
+
+        String commandText;
+        try {
+            commandText = JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8),
+                    JsonCommandRequest.class).command;
+        } catch (IOException e) {
+            commandText = null;
+        }
+        if (commandText == null) {
+            sendError(exchange, STATUS_BAD_REQUEST, MESSAGE_INVALID_REQUEST);
+            return;
+        }
+
+        CommandResult result;
+        try {
+            Command command = parser.parseCommand(commandText);
+            result = commandBatcher.submit(command).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ParseException e) {
+            sendError(exchange, STATUS_BAD_REQUEST, e.getMessage());
+            return;
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof CommandException)) {
+                throw new IllegalStateException(e.getCause());
+            }
+            sendError(exchange, STATUS_BAD_REQUEST, e.getCause().getMessage());
+            return;
+        }
+
+        try (JsonGenerator generator = startJson(exchange, STATUS_OK)) {
+            generator.writeStartObject();
+            generator.writeStringField("feedback", result.getFeedbackToUser());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns a snapshot that includes every command executed before this call, making a new one if needed.
+     */
+    private ApiSnapshot getSnapshot() {
+        InternBookSnapshot internBook = model.getInternBookSnapshot();
+        ReminderSettings reminderSettings = model.getReminderSettings();
+        LocalDate today = LocalDate.now(clock);
+        ApiSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null || !currentSnapshot.isOf(internBook, reminderSettings, today)) {
+            // Reads that start together may both make a snapshot, which is harmless as they are equal
+            currentSnapshot = new ApiSnapshot(internBook, reminderSettings, today);
+            snapshot = currentSnapshot;
+        }
+        return currentSnapshot;
+    }
+
+    /**
+     * Returns the decoded value of the query parameter {@code name} of {@code exchange}, or null if it has none.
+     */
+    private static String getQueryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            String parameterName = separator < 0 ? parameter : parameter.substring(0, separator);
+            if (decode(parameterName).equals(name)) {
+                return separator < 0 ? "" : decode(parameter.substring(separator + 1));
+            }
+        }
+        return null;
+    }
+
+    private static String decode(String text) {
+        try {
+            return URLDecoder.decode(text, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError("UTF-8 is always supported", e);
+        }
+    }
+
+    private static void writeCompanies(JsonGenerator generator, List<Company> companies) throws IOException {
+        generator.writeArrayFieldStart("companies");
+        for (Company company : companies) {
+            generator.writeObject(new JsonAdaptedCompany(company));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Sends the headers of a JSON response with {@code status}, and returns a generator for its body.
+     * The body is streamed, so that large lists are never held in memory as a whole.
+     */
+    private static JsonGenerator startJson(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        return JsonUtil.createGenerator(exchange.getResponseBody(), false);
+    }
+
+    /**
+     * Responds to {@code exchange} with an error, unless the headers of a response have already been sent. The status
+     * of that response cannot be changed any more, so the exchange is only closed, ending the response early.
+     */
+    private static void sendErrorIfNotResponding(HttpExchange exchange, int status, String message)
+            throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            logger.warning("Response to API request " + exchange.getRequestURI() + " ended early");
+            return;
+        }
+        sendError(exchange, status, message);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        try (JsonGenerator generator = startJson(exchange, status)) {
+            generator.writeStartObject();
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * The body of a request to execute a command.
+     */
+    static class JsonCommandRequest {
+        private final String command;
+
+        @JsonCreator
+        JsonCommandRequest(@JsonProperty("command") String command) {
+            this.command = command;
+        }
+    }
+}
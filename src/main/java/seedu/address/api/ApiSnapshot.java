@@ -0,0 +1,101 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.ReminderSettings;
+import seedu.address.model.InternBookSnapshot;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.WordPrefixIndex;
+
+/**
+ * The data served by the API for one {@link InternBookSnapshot}, which any number of threads can read at once.
+ * <p>
+ * A snapshot only lives until the next change, so instead of a sorted {@link WordPrefixIndex}, which takes longer to
+ * build than to scan, it finds companies by scanning the terms of every company. The terms are only collected by
+ * the first find.
+ */
+class ApiSnapshot {
+
+    private final InternBookSnapshot internBook;
+    private final ReminderSettings reminderSettings;
+    private final LocalDate date;
+    private final List<Company> reminders;
+    /** The index terms of each company, in the order of the company list. Collected by the first find. */
+    private volatile String[][] termsOfCompanies;
+
+    /**
+     * Creates the data served for {@code internBook} with {@code reminderSettings} as of {@code today}.
+     */
+    ApiSnapshot(InternBookSnapshot internBook, ReminderSettings reminderSettings, LocalDate today) {
+        requireAllNonNull(internBook, reminderSettings, today);
+        this.internBook = internBook;
+        this.reminderSettings = reminderSettings;
+        this.date = today;
+        this.reminders = List.copyOf(internBook.getReminderList(reminderSettings, today));
+    }
+
+    /**
+     * Returns true if this snapshot serves the data of {@code otherInternBook} with {@code otherReminderSettings} as
+     * of {@code today}.
+     */
+    boolean isOf(InternBookSnapshot otherInternBook, ReminderSettings otherReminderSettings, LocalDate today) {
+        return internBook == otherInternBook && reminderSettings.equals(otherReminderSettings) && date.equals(today);
+    }
+
+    /**
+     * Returns all companies, in the order of the company list.
+     */
+    List<Company> getCompanies() {
+        return internBook.getCompanyList();
+    }
+
+    /**
+     * Returns the companies that a {@code find} command for {@code keyword} would show, in the order of the company
+     * list.
+     */
+    List<Company> findCompanies(String keyword) {
+        requireNonNull(keyword);
+        String prefix = keyword.trim().toLowerCase();
+        String[][] terms = getTermsOfCompanies();
+        List<Company> found = new ArrayList<>();
+        for (int i = 0; i < terms.length; i++) {
+            for (String term : terms[i]) {
+                if (term.startsWith(prefix)) {
+                    found.add(getCompanies().get(i));
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private String[][] getTermsOfCompanies() {
+        String[][] terms = termsOfCompanies;
+        if (terms == null) {
+            // Finds that start together may both collect the terms, which is harmless as the results are equal
+            List<Company> companies = getCompanies();
+            terms = new String[companies.size()][];
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = WordPrefixIndex.getTerms(companies.get(i)).toArray(new String[0]);
+            }
+            termsOfCompanies = terms;
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the companies to remind the user about on the date of this snapshot, in order of end date.
+     */
+    List<Company> getReminders() {
+        return reminders;
+    }
+
+    boolean isReminderOn() {
+        return reminderSettings.getReminderOn();
+    }
+}
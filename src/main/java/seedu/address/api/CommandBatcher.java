@@ -0,0 +1,142 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes commands submitted from any thread on the model's thread, in batches.
+ * <p>
+ * All commands submitted while the model's thread is busy are executed together the next time it is free, in the
+ * order they were submitted. Each batch publishes its changes to the model in one list change and saves the data
+ * once, as a {@code run} command does. A new batch is started before a command that
+ * {@link Command#dependsOnDisplayedList() depends on the displayed list}, so that it sees the changes made before it.
+ */
+class CommandBatcher {
+
+    /** Largest number of commands executed in one turn of the model's thread, so that it stays responsive. */
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandBatcher.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final Executor modelExecutor;
+    private final Queue<PendingCommand> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a {@code CommandBatcher} that executes commands on {@code model} through {@code logic}, on the thread
+     * of {@code modelExecutor}, which must be the thread that modifies {@code model}.
+     */
+    CommandBatcher(Logic logic, Model model, Executor modelExecutor) {
+        requireNonNull(logic);
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        this.logic = logic;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Queues {@code command} to be executed on the model's thread. The returned future completes with the result of
+     * the command, or exceptionally with the {@code CommandException} it threw, once the data has been saved or
+     * handed over to be saved.
+     */
+    CompletableFuture<CommandResult> submit(Command command) {
+        requireNonNull(command);
+        PendingCommand pendingCommand = new PendingCommand(command);
+        queue.add(pendingCommand);
+        if (isDrainScheduled.compareAndSet(false, true)) {
+            modelExecutor.execute(this::drain);
+        }
+        return pendingCommand.result;
+    }
+
+    /**
+     * Executes up to {@link #MAX_BATCH_SIZE} queued commands. Runs on the model's thread.
+     */
+    private void drain() {
+        // Commands queued from now on need another drain, unless this one takes them
+        isDrainScheduled.set(false);
+        List<PendingCommand> commands = new ArrayList<>();
+        for (PendingCommand command = queue.poll(); command != null; command = queue.poll()) {
+            commands.add(command);
+            if (commands.size() == MAX_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (!queue.isEmpty() && isDrainScheduled.compareAndSet(false, true)) {
+            modelExecutor.execute(this::drain);
+        }
+
+        int start = 0;
+        while (start < commands.size()) {
+            int end = start + 1;
+            while (end < commands.size() && !commands.get(end).command.dependsOnDisplayedList()) {
+                end++;
+            }
+            executeBatch(commands.subList(start, end));
+            start = end;
+        }
+    }
+
+    private void executeBatch(List<PendingCommand> commands) {
+        logger.fine("Executing a batch of " + commands.size() + " commands");
+        List<CommandResult> results = new ArrayList<>(commands.size());
+        List<CommandException> errors = new ArrayList<>(commands.size());
+        try {
+            logic.executeBatch(() -> {
+                for (PendingCommand pendingCommand : commands) {
+                    try {
+                        results.add(pendingCommand.command.execute(model));
+                        errors.add(null);
+                    } catch (CommandException ce) {
+                        results.add(null);
+                        errors.add(ce);
+                    }
+                }
+            });
+        } catch (CommandException | RuntimeException e) {
+            // The data could not be saved, or a command failed unexpectedly
+            for (PendingCommand pendingCommand : commands) {
+                pendingCommand.result.completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < commands.size(); i++) {
+            if (errors.get(i) != null) {
+                commands.get(i).result.completeExceptionally(errors.get(i));
+            } else {
+                commands.get(i).result.complete(results.get(i));
+            }
+        }
+    }
+
+    /**
+     * A submitted command and the future of its result.
+     */
+    private static class PendingCommand {
+        private final Command command;
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+        PendingCommand(Command command) {
+            this.command = command;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.dataformat.DataFileFormat;
+import seedu.address.commons.core.durability.Durability;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +19,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean compactDataFile = false;
+    private boolean journaledDataFile = false;
+    private Durability dataFileDurability = Durability.DATA;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +40,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data file should be written without indentation or line breaks.
+     */
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    /**
+     * Returns true if changes should be appended to a journal next to the data file instead of rewriting it.
+     */
+    public boolean isJournaledDataFile() {
+        return journaledDataFile;
+    }
+
+    public void setJournaledDataFile(boolean journaledDataFile) {
+        this.journaledDataFile = journaledDataFile;
+    }
+
+    /**
+     * Returns how far each save of the data file is forced to the storage device before it is considered done.
+     */
+    public Durability getDataFileDurability() {
+        return dataFileDurability;
+    }
+
+    public void setDataFileDurability(Durability dataFileDurability) {
+        this.dataFileDurability = dataFileDurability;
+    }
+
+    /**
+     * Returns the format the data file is stored in.
+     */
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        this.dataFileFormat = dataFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +97,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && compactDataFile == otherConfig.compactDataFile
+                && journaledDataFile == otherConfig.journaledDataFile
+                && dataFileDurability == otherConfig.dataFileDurability
+                && dataFileFormat == otherConfig.dataFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, compactDataFile, journaledDataFile, dataFileDurability,
+                dataFileFormat);
     }
 
     @Override
@@ -60,6 +115,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("compactDataFile", compactDataFile)
+                .add("journaledDataFile", journaledDataFile)
+                .add("dataFileDurability", dataFileDurability)
+                .add("dataFileFormat", dataFileFormat)
                 .toString();
     }
 
@@ -23,6 +23,7 @@ public class LogsCenter {
     private static final String LOG_FILE = "addressbook.log";
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
+    private static ConsoleHandler consoleHandler;
     private static Level currentLogLevel = Level.INFO;
 
     // This static block ensures essential loggers are created early
@@ -42,6 +43,14 @@ public class LogsCenter {
         baseLogger.setLevel(currentLogLevel);
     }
 
+    /**
+     * Logs only messages of {@code level} or above to the console. Messages below it are still logged to the log file.
+     */
+    public static void setConsoleLevel(Level level) {
+        requireNonNull(level);
+        consoleHandler.setLevel(level);
+    }
+
     /**
      * Creates a logger with the given name prefixed by the {@code baseLogger}'s name so that the created logger
      * becomes a descendant of the {@code baseLogger}. Furthermore, the returned logger will have the same log handlers
@@ -87,7 +96,7 @@ public class LogsCenter {
         // already; there is no need to control log message level of the handlers.
 
         // add a ConsoleHandler to log to the console
-        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
         baseLogger.addHandler(consoleHandler);
 
@@ -0,0 +1,84 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the settings for saving the data file in the background.
+ */
+public class SaveSettings implements Serializable {
+    public static final String MESSAGE_CONSTRAINTS = "Save delays must not be negative.";
+
+    private static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+    private static final long DEFAULT_MAX_DELAY_MILLIS = 2000;
+    private long debounceMillis;
+    private long maxDelayMillis;
+
+    /**
+     * Constructs a {@code SaveSettings} with the default debounce interval and maximum delay.
+     */
+    public SaveSettings() {
+        debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+        maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+    }
+
+    /**
+     * Constructs a {@code SaveSettings} with the specified debounce interval and maximum delay, in milliseconds.
+     */
+    public SaveSettings(long debounceMillis, long maxDelayMillis) {
+        checkArgument(debounceMillis >= 0 && maxDelayMillis >= 0, MESSAGE_CONSTRAINTS);
+        this.debounceMillis = debounceMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Returns how long the data must stay unchanged before it is saved.
+     *
+     * @return The debounce interval in milliseconds.
+     */
+    public long getDebounceMillis() {
+        return debounceMillis;
+    }
+
+    /**
+     * Returns the longest time a change may wait to be saved while further changes keep arriving.
+     *
+     * @return The maximum delay in milliseconds.
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveSettings)) {
+            return false;
+        }
+
+        SaveSettings otherSaveSettings = (SaveSettings) other;
+        return debounceMillis == otherSaveSettings.debounceMillis
+                && maxDelayMillis == otherSaveSettings.maxDelayMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(debounceMillis, maxDelayMillis);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("debounceMillis", debounceMillis)
+                .add("maxDelayMillis", maxDelayMillis)
+                .toString();
+    }
+}
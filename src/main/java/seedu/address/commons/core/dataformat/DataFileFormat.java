@@ -0,0 +1,9 @@
+package seedu.address.commons.core.dataformat;
+
+/**
+ * Enumeration of the formats the data file can be stored in.
+ */
+public enum DataFileFormat {
+    JSON,
+    BINARY
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core.durability;
+
+/**
+ * Enumeration of how far a file write is forced to the storage device before it is considered done.
+ */
+public enum Durability {
+    /** Nothing is forced; the write survives the app crashing but may be lost if the machine crashes. */
+    NONE,
+    /** The file's contents are forced to the device before it replaces the old file. */
+    DATA,
+    /** The file's contents and metadata, and the directory entry that points to it, are all forced. */
+    FULL
+}
@@ -0,0 +1,98 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable list of the {@code Index}es in some ranges of one-based indexes, in ascending order without repeats.
+ * <p>
+ * Only the first and last index of each range are kept, so a range of a million indexes takes as little memory as a
+ * single index. The {@code Index} objects are created as the list is read, so a command that stops at the first
+ * index outside the displayed list never creates the rest. Getting an index takes O(log r) time for r ranges.
+ */
+public final class IndexRangeList extends AbstractList<Index> {
+
+    /** The first one-based index of each range, in ascending order. */
+    private final int[] firsts;
+    /** The last one-based index of each range, which is before the first index of the next range. */
+    private final int[] lasts;
+    /** The position in this list of the first index of each range. */
+    private final int[] offsets;
+    private final int size;
+
+    private IndexRangeList(int[] firsts, int[] lasts, int[] offsets, int size) {
+        this.firsts = firsts;
+        this.lasts = lasts;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * Returns the list of the indexes in {@code ranges}, each given as its first and last one-based index. The ranges
+     * may be in any order and may overlap.
+     *
+     * @throws IllegalArgumentException if a range does not start at a positive index or ends before it starts.
+     */
+    public static IndexRangeList of(List<int[]> ranges) {
+        requireNonNull(ranges);
+        List<int[]> sortedRanges = new ArrayList<>(ranges);
+        for (int[] range : sortedRanges) {
+            if (range.length != 2 || range[0] < 1 || range[1] < range[0]) {
+                throw new IllegalArgumentException("Invalid index range " + Arrays.toString(range));
+            }
+        }
+        sortedRanges.sort(Comparator.comparingInt(range -> range[0]));
+
+        int[] firsts = new int[sortedRanges.size()];
+        int[] lasts = new int[sortedRanges.size()];
+        int count = 0;
+        for (int[] range : sortedRanges) {
+            if (count > 0 && range[0] <= lasts[count - 1] + 1L) {
+                lasts[count - 1] = Math.max(lasts[count - 1], range[1]);
+            } else {
+                firsts[count] = range[0];
+                lasts[count] = range[1];
+                count++;
+            }
+        }
+
+        int[] offsets = new int[count];
+        // at most Integer.MAX_VALUE distinct positive ints can be in the ranges, so the size cannot overflow
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            offsets[i] = size;
+            size += lasts[i] - firsts[i] + 1;
+        }
+        return new IndexRangeList(Arrays.copyOf(firsts, count), Arrays.copyOf(lasts, count), offsets, size);
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code indexes}, or {@code indexes} itself if it is an {@code IndexRangeList},
+     * which cannot be modified and is not expanded into a list of {@code Index} objects.
+     */
+    public static List<Index> copyOf(List<Index> indexes) {
+        return indexes instanceof IndexRangeList ? indexes : List.copyOf(indexes);
+    }
+
+    @Override
+    public Index get(int position) {
+        Objects.checkIndex(position, size);
+        int range = Arrays.binarySearch(offsets, position);
+        if (range < 0) {
+            // the range that starts before position, found from the insertion point
+            range = -range - 2;
+        }
+        return Index.fromOneBased(firsts[range] + (position - offsets[range]));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
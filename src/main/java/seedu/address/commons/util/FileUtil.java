@@ -1,10 +1,21 @@
 package seedu.address.commons.util;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+import seedu.address.commons.core.durability.Durability;
 
 /**
  * Writes and reads files
@@ -12,6 +23,15 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the contents of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +95,124 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically with {@link Durability#DATA}, see {@link #writeAtomically}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, Durability.DATA);
+    }
+
+    /**
+     * Writes given string to a file atomically with the given {@code durability}, see {@link #writeAtomically}.
+     */
+    public static void writeToFile(Path file, String content, Durability durability) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, durability, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, such that {@code file} holds
+     * either its old or its new contents even if the app crashes part way.
+     * The contents are first written to a temporary file in the same directory, which is then renamed over
+     * {@code file}. The temporary file is given the permissions of {@code file} if it exists, so that they are kept,
+     * or the default permissions of new files otherwise. {@code durability} controls what is forced to the storage
+     * device before returning.
+     * The parent directory of {@code file} must exist.
+     *
+     * @throws IOException if the contents could not be written, in which case {@code file} is left unchanged.
+     */
+    public static void writeAtomically(Path file, Durability durability, ContentWriter contentWriter)
+            throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFile(directory, file.getFileName().toString());
+        try {
+            copyPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                // The content writer may close the stream it is given, but the channel is still needed to force it
+                contentWriter.writeTo(new FilterOutputStream(out) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                });
+                if (durability != Durability.NONE) {
+                    channel.force(durability == Durability.FULL);
+                }
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException cleanupException) {
+                e.addSuppressed(cleanupException);
+            }
+            throw e;
+        }
+
+        if (durability == Durability.FULL) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Creates a new, empty file in {@code directory} whose name starts with {@code prefix}, with the default
+     * permissions of new files. Unlike {@link Files#createTempFile}, which only lets the owner of the file read it,
+     * this does not take away the permissions that the file it replaces would have had. A new name is picked each
+     * time, so that concurrent writers and files left behind by a crash never clash.
+     */
+    private static Path createTempFile(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path tempFile = directory.resolve(
+                    prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+            try {
+                Files.newByteChannel(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE).close();
+                return tempFile;
+            } catch (FileAlreadyExistsException e) {
+                // try again with another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and its file system
+     * has POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (isPosix(source) && Files.exists(source)) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the storage device, on platforms that allow it.
+     */
+    public static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms (e.g. Windows) do not allow directories to be opened or forced
+            if (Files.isDirectory(directory) && !isPosix(directory)) {
+                return;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isPosix(Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
     }
 
 }
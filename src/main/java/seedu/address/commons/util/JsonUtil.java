@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +96,33 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming {@code JsonParser} over the contents of {@code filePath}.
+     * The parser reads the file incrementally and can bind values using the same settings as the rest of this class,
+     * e.g. through {@link JsonParser#readValueAs(Class)}. The caller is responsible for closing the parser.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+    /**
+     * Returns a streaming {@code JsonGenerator} that writes UTF-8 encoded JSON to {@code out}.
+     * Values can be written using the same settings as the rest of this class, e.g. through
+     * {@link JsonGenerator#writeObject(Object)}. Closing the generator also closes {@code out}.
+     *
+     * @param out cannot be null.
+     * @param isPrettyPrinted whether the output should be indented with the default pretty printer.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
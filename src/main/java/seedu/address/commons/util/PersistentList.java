@@ -0,0 +1,250 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list that shares most of its structure with the lists it was derived from. Does not allow nulls.
+ * <p>
+ * The elements are kept in a balanced (AVL) binary tree in which every node knows the size of its subtree.
+ * {@link #with(int, Object)}, {@link #plus(int, Object)} and {@link #minus(int)} copy only the O(log n) nodes on the
+ * path to the changed position and return a new list, leaving this one unchanged. Keeping many versions of a large
+ * list therefore costs memory in proportion to the changes between them rather than to their size. Getting an
+ * element takes O(log n) time, and iterating over the list O(n).
+ * <p>
+ * As its nodes are never changed, a {@code PersistentList} can be shared between threads without synchronization.
+ * The list methods that would change it throw {@code UnsupportedOperationException}.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order. Takes O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a list with {@code element} in place of the element at {@code index}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size());
+        requireNonNull(element);
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting the elements from {@code index}
+     * onwards by one position.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        requireNonNull(element);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}, shifting the elements after it back by one position.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            /** The nodes whose element and right subtree are still to be visited, next one on top. */
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.element;
+            }
+
+            private void pushLeftSpine(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.element, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.element, set(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(node.left, element, node.right);
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        }
+        return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // Replace the removed element by the first element of its right subtree
+        Node<E> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(node.left, first.element, removeFirst(node.right));
+    }
+
+    private static <E> Node<E> removeFirst(Node<E> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(removeFirst(node.left), node.element, node.right);
+    }
+
+    /**
+     * Returns a node of {@code element} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(new Node<>(left.left, left.element, middle.left), middle.element,
+                    new Node<>(middle.right, element, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(new Node<>(left, element, middle.left), middle.element,
+                    new Node<>(middle.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding the element after those in its left subtree and before those in its right one.
+     */
+    private static class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
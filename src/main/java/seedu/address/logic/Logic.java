@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs {@code commands}, which execute already parsed commands on the model directly, as one batch.
+     * The changes they make are published together, and the data is saved once after all of them.
+     * @throws CommandException If the data could not be saved.
+     */
+    void executeBatch(Runnable commands) throws CommandException;
+
+    /**
+     * Sets the handler that receives an error message whenever saving data in the background fails.
+     * The handler may be called from a thread other than the one executing commands.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Sets the handler that is called whenever companies enter the reminder list because the date moved on.
+     * The handler is called on the thread executing commands.
+     */
+    void setReminderHandler(Runnable reminderHandler);
+
     /**
      * Returns the AddressBook.
      *
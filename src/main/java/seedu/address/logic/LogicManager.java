@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,6 +18,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyInternBook;
 import seedu.address.model.company.Company;
+import seedu.address.storage.BackgroundInternBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -33,14 +35,41 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final InternBookParser internBookParser;
+    private final BackgroundInternBookSaver saver;
+    private final ReminderScheduler reminderScheduler;
+
+    /** Version of the intern book in {@code model} that was last known to match the data in {@code storage}. */
+    private long savedInternBookVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The intern book in {@code model} is assumed to be in sync with {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands changes to the intern book over to {@code saver} instead of
+     * saving them to {@code storage} before returning. If {@code saver} is null, changes are saved directly.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundInternBookSaver saver) {
+        this(model, storage, saver, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves changes like {@link #LogicManager(Model, Storage,
+     * BackgroundInternBookSaver)} and tells {@code reminderScheduler} to plan the next reminder update after every
+     * command. If {@code reminderScheduler} is null, the reminder list is only updated by commands.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundInternBookSaver saver,
+            ReminderScheduler reminderScheduler) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        this.reminderScheduler = reminderScheduler;
         internBookParser = new InternBookParser();
+        savedInternBookVersion = model.getInternBookVersion();
     }
 
     @Override
@@ -49,17 +78,95 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = internBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long internBookVersion = model.getInternBookVersion();
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            afterFailedChanges(internBookVersion, e);
+            throw e;
+        }
+        afterChanges();
+        return commandResult;
+    }
+
+    @Override
+    public void executeBatch(Runnable commands) throws CommandException {
+        long internBookVersion = model.getInternBookVersion();
+        try {
+            model.batch(commands);
+        } catch (RuntimeException e) {
+            afterFailedChanges(internBookVersion, e);
+            throw e;
+        }
+        afterChanges();
+    }
+
+    /**
+     * Commits and saves the changes made by commands that failed with {@code failure}, if they changed the intern
+     * book since it was at {@code internBookVersion}, e.g. a script that failed after running some of its lines.
+     * Otherwise, those changes would be merged into the next step that can be undone, or discarded by the next undo.
+     * A failure to save them is added to {@code failure}.
+     */
+    private void afterFailedChanges(long internBookVersion, Exception failure) {
+        if (model.getInternBookVersion() == internBookVersion) {
+            return;
+        }
+        try {
+            afterChanges();
+        } catch (CommandException ce) {
+            failure.addSuppressed(ce);
+        }
+    }
+
+    /**
+     * Commits the changes to the intern book as one step that can be undone, plans the next reminder update and saves
+     * the intern book if it was modified since it was last saved.
+     */
+    private void afterChanges() throws CommandException {
+        model.commitInternBook();
+        if (reminderScheduler != null) {
+            reminderScheduler.reschedule();
+        }
+
+        long internBookVersion = model.getInternBookVersion();
+        if (internBookVersion == savedInternBookVersion) {
+            logger.info("Intern book not modified by command, skipped saving data file");
+            return;
+        }
+
+        if (saver != null) {
+            saver.submit(model.getInternBook());
+            savedInternBookVersion = internBookVersion;
+            return;
+        }
 
         try {
             storage.saveInternBook(model.getInternBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        savedInternBookVersion = internBookVersion;
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        if (saver != null) {
+            saver.setErrorHandler(e -> saveErrorHandler.accept(getSaveErrorMessage(e)));
+        }
+    }
+
+    @Override
+    public void setReminderHandler(Runnable reminderHandler) {
+        if (reminderScheduler != null) {
+            reminderScheduler.setReminderHandler(reminderHandler);
+        }
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
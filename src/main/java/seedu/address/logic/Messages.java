@@ -13,6 +13,7 @@ import seedu.address.model.company.Company;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command %1$s, it could be any of: %2$s";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_DATERANGE = "Start Date must be earlier than End Date";
     public static final String MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX = "The company index provided is invalid";
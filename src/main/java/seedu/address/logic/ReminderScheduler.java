@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.company.Company;
+
+/**
+ * Updates the reminder list of a {@code Model} when the date moves on, so that companies enter and leave it while
+ * the application stays open.
+ * <p>
+ * The scheduler does not poll. It asks the model for the next day on which the reminder list would change, which the
+ * model finds by binary search in its companies sorted by end date, and sleeps on a single background thread until
+ * the start of that day. It must be told to {@link #reschedule()} after every change to the model.
+ */
+public class ReminderScheduler implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final Model model;
+    private final Clock clock;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService timer;
+    private volatile Runnable reminderHandler = () -> {};
+
+    // All fields below are guarded by this object's lock
+    private LocalDate scheduledDate;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * Creates a {@code ReminderScheduler} for {@code model}, which reads today's date from {@code clock}.
+     * The model is only used on the threads of {@code modelExecutor}, which must be the thread that modifies it.
+     */
+    public ReminderScheduler(Model model, Clock clock, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(clock);
+        requireNonNull(modelExecutor);
+        this.model = model;
+        this.clock = clock;
+        this.modelExecutor = modelExecutor;
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called on the model's thread whenever companies enter the reminder list because the
+     * date moved on.
+     */
+    public void setReminderHandler(Runnable reminderHandler) {
+        requireNonNull(reminderHandler);
+        this.reminderHandler = reminderHandler;
+    }
+
+    /**
+     * Plans the next update of the reminder list from the current state of the model.
+     * Must be called on the model's thread.
+     */
+    public void reschedule() {
+        Optional<LocalDate> nextChangeDate = model.getNextReminderChangeDate();
+        synchronized (this) {
+            if (timer.isShutdown() || nextChangeDate.equals(Optional.ofNullable(scheduledDate))) {
+                return;
+            }
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+                scheduledRefresh = null;
+            }
+            scheduledDate = nextChangeDate.orElse(null);
+            if (scheduledDate == null) {
+                return;
+            }
+
+            Duration delay = Duration.between(clock.instant(), scheduledDate.atStartOfDay(clock.getZone()));
+            long delayMillis = Math.max(0, delay.toMillis());
+            logger.fine("Next reminder update on " + scheduledDate + " in " + delayMillis + " ms");
+            scheduledRefresh = timer.schedule(() -> modelExecutor.execute(this::refresh), delayMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the day the next update of the reminder list is planned for, if there is one.
+     */
+    public synchronized Optional<LocalDate> getScheduledDate() {
+        return Optional.ofNullable(scheduledDate);
+    }
+
+    /**
+     * Cancels the planned update and stops the background thread.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+            }
+            scheduledRefresh = null;
+            scheduledDate = null;
+        }
+        timer.shutdownNow();
+    }
+
+    /**
+     * Updates the reminder list for today's date, plans the next update, and calls the reminder handler if any
+     * company entered the list. Runs on the model's thread.
+     */
+    private void refresh() {
+        Set<Company> previousReminders = Collections.newSetFromMap(new IdentityHashMap<>());
+        previousReminders.addAll(model.getFilteredCompaniesRemindersList());
+        model.refreshReminderList();
+        synchronized (this) {
+            scheduledDate = null;
+            scheduledRefresh = null;
+        }
+        reschedule();
+
+        boolean hasNewReminders = model.getFilteredCompaniesRemindersList().stream()
+                .anyMatch(company -> !previousReminders.contains(company));
+        if (hasNewReminders) {
+            logger.info("Companies entered the reminder list");
+            reminderHandler.run();
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package seedu.address.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.company.Company;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +23,31 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command reads or changes the displayed company list, for example to look up companies by
+     * their displayed index. Such a command must not run in a {@link Model#batch(Runnable) batch} after other
+     * commands, because the displayed list only shows the changes made in a batch once the batch ends.
+     */
+    public boolean dependsOnDisplayedList() {
+        return false;
+    }
+
+    /**
+     * Returns the companies at {@code indexes} in {@code lastShownList}, in the same order as {@code indexes}.
+     *
+     * @throws CommandException if any of the indexes is outside {@code lastShownList}.
+     */
+    protected static List<Company> getCompaniesAt(List<Company> lastShownList, List<Index> indexes)
+            throws CommandException {
+        // the indexes may stand for far more companies than are shown, so only as many as are shown are expected
+        List<Company> companies = new ArrayList<>(Math.min(indexes.size(), lastShownList.size()));
+        for (Index index : indexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
+            }
+            companies.add(lastShownList.get(index.getZeroBased()));
+        }
+        return companies;
+    }
+
 }
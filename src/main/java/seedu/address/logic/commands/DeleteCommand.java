@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,37 +13,59 @@ import seedu.address.model.Model;
 import seedu.address.model.company.Company;
 
 /**
- * Deletes a company identified using it's displayed index from the address book.
+ * Deletes the companies identified using their displayed indexes from the address book.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the company identified by the index number used in the displayed company list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the companies identified by the index numbers used in the displayed company list.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas)\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 3-250,300";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_COMPANIES_SUCCESS = "Deleted %1$d companies";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the companies at {@code targetIndexes}, which must not be empty.
+     */
+    public DeleteCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty() : "Target indexes cannot be empty";
+        this.targetIndexes = IndexRangeList.copyOf(targetIndexes);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Company> lastShownList = model.getFilteredCompanyList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
+        List<Company> companiesToDelete = getCompaniesAt(lastShownList, targetIndexes);
+
+        // While the list is not sorted, this removes the companies from the end of the list towards the start, so
+        // that the batch does not recompute the positions of the companies after each removed one
+        model.batch(() -> {
+            for (int i = companiesToDelete.size() - 1; i >= 0; i--) {
+                model.deleteCompany(companiesToDelete.get(i));
+            }
+        });
+
+        if (companiesToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
+                    Messages.format(companiesToDelete.get(0))));
         }
+        return new CommandResult(String.format(MESSAGE_DELETE_COMPANIES_SUCCESS, companiesToDelete.size()));
+    }
 
-        Company companyToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteCompany(companyToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(companyToDelete)));
+    @Override
+    public boolean dependsOnDisplayedList() {
+        return true;
     }
 
     @Override
@@ -57,13 +80,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
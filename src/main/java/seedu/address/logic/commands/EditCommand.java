@@ -93,7 +93,7 @@ public class EditCommand extends Command {
 
     /**
      * Creates and returns a {@code Company} with the details of {@code companyToEdit}
-     * edited with {@code editCompanyDescriptor}.
+     * edited with {@code editCompanyDescriptor}, which keeps the id of {@code companyToEdit}.
      * @throws CommandException Occurs when the new {@code startDate} is later than the {@code endDate}
      */
     private static Company createEditedCompany(
@@ -113,7 +113,13 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_DATERANGE);
         }
 
-        return new Company(updatedName, updatedPhone, updatedEmail, updatedStartDate, updatedEndDate, updatedTags);
+        return new Company(companyToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedStartDate,
+                updatedEndDate, updatedTags);
+    }
+
+    @Override
+    public boolean dependsOnDisplayedList() {
+        return true;
     }
 
     @Override
@@ -34,6 +34,11 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_COMPANIES_LISTED_OVERVIEW, model.getFilteredCompanyList().size()));
     }
 
+    @Override
+    public boolean dependsOnDisplayedList() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
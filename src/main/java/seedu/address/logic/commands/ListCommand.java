@@ -12,8 +12,10 @@ public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
-    public static final String MESSAGE_SUCCESS = "Listed all companies";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all companies.\n"
+            + "Example: " + COMMAND_WORD;
 
+    public static final String MESSAGE_SUCCESS = "Listed all companies";
 
     @Override
     public CommandResult execute(Model model) {
@@ -21,4 +23,9 @@ public class ListCommand extends Command {
         model.updateFilteredCompanyList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean dependsOnDisplayedList() {
+        return true;
+    }
 }
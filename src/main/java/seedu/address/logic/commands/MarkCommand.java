@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,46 +13,70 @@ import seedu.address.model.Model;
 import seedu.address.model.company.Company;
 
 /**
- * Marks a company as applied using it's displayed index from the InternBook.
+ * Marks companies as applied using their displayed indexes from the InternBook.
  */
 public class MarkCommand extends Command {
     public static final String COMMAND_WORD = "mark";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks a company as applied.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks companies as applied.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas)\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 3-250,300";
 
     public static final String MESSAGE_MARK_COMPANY_SUCCESS = "Company marked as applied: %1$s";
+    public static final String MESSAGE_MARK_COMPANIES_SUCCESS = "%1$d companies marked as applied";
     public static final String MESSAGE_COMPANY_ALREADY_MARKED = "This company has already been marked as applied";
+    public static final String MESSAGE_COMPANIES_ALREADY_MARKED =
+            "The company at index %1$d has already been marked as applied";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     /**
      * Creates a MarkCommand to mark the specified {@code Company}
      * @param targetIndex
      */
     public MarkCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a MarkCommand to mark the companies at {@code targetIndexes}, which must not be empty.
+     */
+    public MarkCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty() : "Target indexes cannot be empty";
+        this.targetIndexes = IndexRangeList.copyOf(targetIndexes);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Company> lastShownList = model.getFilteredCompanyList();
-
-        // Assertion to ensure that the target index is not null
-        assert targetIndex != null : "Target index cannot be null";
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
+        List<Company> companiesToMark = getCompaniesAt(lastShownList, targetIndexes);
+
+        for (int i = 0; i < companiesToMark.size(); i++) {
+            Company company = companiesToMark.get(i);
+            if (model.isCompanyMarked(company)) {
+                throw new CommandException(companiesToMark.size() == 1
+                        ? MESSAGE_COMPANY_ALREADY_MARKED
+                        : String.format(MESSAGE_COMPANIES_ALREADY_MARKED, targetIndexes.get(i).getOneBased()));
+            }
         }
 
-        Company companyToMark = lastShownList.get(targetIndex.getZeroBased());
-        if (model.isCompanyMarked(companyToMark)) {
-            throw new CommandException(MESSAGE_COMPANY_ALREADY_MARKED);
+        model.batch(() -> {
+            for (Company company : companiesToMark) {
+                model.markCompany(company);
+            }
+        });
+
+        if (companiesToMark.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_MARK_COMPANY_SUCCESS,
+                    Messages.format(companiesToMark.get(0))));
         }
+        return new CommandResult(String.format(MESSAGE_MARK_COMPANIES_SUCCESS, companiesToMark.size()));
+    }
 
-        model.markCompany(companyToMark);
-        return new CommandResult(String.format(MESSAGE_MARK_COMPANY_SUCCESS, Messages.format(companyToMark)));
+    @Override
+    public boolean dependsOnDisplayedList() {
+        return true;
     }
 
     @Override
@@ -65,13 +90,13 @@ public class MarkCommand extends Command {
         }
 
         MarkCommand otherMarkCommand = (MarkCommand) other;
-        return targetIndex.equals(otherMarkCommand.targetIndex);
+        return targetIndexes.equals(otherMarkCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
@@ -0,0 +1,245 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one command per line.
+ * <p>
+ * The file is read one line at a time, so scripts of any length can be run. A line that cannot be parsed or executed
+ * is reported and skipped, and the lines after it are still run, even if it failed with an unexpected exception.
+ * Blank lines and lines starting with {@code #} are ignored.
+ * <p>
+ * Scripts cannot run other scripts, or undo or redo changes. The changes made by a script are only committed as one
+ * step that can be undone once it has finished, so undoing or redoing in the middle of it would discard the changes
+ * made by the lines before. If the file cannot be read to the end, the changes made by the lines already run are
+ * kept, and are committed as one step all the same.
+ * <p>
+ * Commands are executed in batches, so that the companies they add or change are published in as few list changes as
+ * possible. A new batch is only started for a command that depends on the displayed list.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/commands.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_SUCCESS_WITH_ERRORS = "Ran %1$d commands from %2$s, %3$d of them failed:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts";
+    public static final String MESSAGE_UNDO_IN_SCRIPT = "Scripts cannot undo or redo changes";
+    public static final String MESSAGE_READ_ERROR = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Command failed unexpectedly: %1$s";
+
+    /** Number of failed lines listed in the result. The rest are only logged. */
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String COMMENT_MARKER = "#";
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptPath;
+    private final Parser<? extends Command> commandParser;
+
+    /**
+     * Creates a RunCommand that runs the script at {@code scriptPath}, parsing each line with {@code commandParser}.
+     */
+    public RunCommand(Path scriptPath, Parser<? extends Command> commandParser) {
+        requireNonNull(scriptPath);
+        requireNonNull(commandParser);
+        this.scriptPath = scriptPath;
+        this.commandParser = commandParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Script script;
+
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            script = new Script(reader);
+            while (!script.isFinished()) {
+                model.batch(() -> runBatch(script, model));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath, e.getMessage()), e);
+        }
+
+        List<String> errors = script.errors;
+        if (errors.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, script.commandCount, scriptPath));
+        }
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS_WITH_ERRORS, script.commandCount, scriptPath, errors.size()));
+        errors.stream().limit(MAX_REPORTED_ERRORS).forEach(error -> feedback.append('\n').append(error));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Executes the commands of {@code script} on {@code model} until the script ends or until a command that
+     * {@link Command#dependsOnDisplayedList() depends on the displayed list} comes after other commands.
+     * Such a command is left in {@code script} for the next batch, because the displayed list only shows the changes
+     * made in a batch once the batch ends.
+     *
+     * @throws UncheckedIOException if the script cannot be read.
+     */
+    private void runBatch(Script script, Model model) {
+        boolean isFirstCommand = true;
+        for (Command command = script.next(); command != null; command = script.next()) {
+            if (!isFirstCommand && command.dependsOnDisplayedList()) {
+                script.pushBack(command);
+                return;
+            }
+            isFirstCommand = false;
+            try {
+                command.execute(model);
+            } catch (CommandException ce) {
+                script.addError(ce.getMessage());
+            } catch (RuntimeException e) {
+                script.addUnexpectedError(e);
+            }
+        }
+    }
+
+    /**
+     * The commands in a script file, parsed one line at a time, and the errors found while running them.
+     */
+    private class Script {
+        private final BufferedReader reader;
+        private final List<String> errors = new ArrayList<>();
+        private int lineNumber;
+        private int commandCount;
+        private Command pushedBackCommand;
+        private boolean isFinished;
+
+        Script(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        boolean isFinished() {
+            return isFinished;
+        }
+
+        /**
+         * Returns the next command of the script, or null if the script has ended. Lines that cannot be parsed are
+         * recorded as errors and skipped.
+         *
+         * @throws UncheckedIOException if the script cannot be read.
+         */
+        Command next() {
+            if (pushedBackCommand != null) {
+                Command command = pushedBackCommand;
+                pushedBackCommand = null;
+                return command;
+            }
+            try {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    lineNumber++;
+                    String commandText = line.trim();
+                    if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                        continue;
+                    }
+                    commandCount++;
+                    Command command = parse(commandText);
+                    if (command != null) {
+                        return command;
+                    }
+                }
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+            isFinished = true;
+            return null;
+        }
+
+        /**
+         * Makes {@code command}, which was just returned by {@link #next()}, the next command of the script again.
+         */
+        void pushBack(Command command) {
+            pushedBackCommand = command;
+        }
+
+        /**
+         * Records {@code message} as the error of the line of the last command returned by {@link #next()}.
+         */
+        void addError(String message) {
+            String error = String.format(MESSAGE_LINE_ERROR, lineNumber, message);
+            logger.fine("Script " + scriptPath + ": " + error);
+            errors.add(error);
+        }
+
+        /**
+         * Records {@code e}, which was thrown by the parser or the command of the line of the last command returned by
+         * {@link #next()} although it is not one of the exceptions they are expected to throw, as its error.
+         */
+        void addUnexpectedError(RuntimeException e) {
+            logger.log(Level.WARNING, "Script " + scriptPath + ": unexpected error on line " + lineNumber, e);
+            addError(String.format(MESSAGE_UNEXPECTED_ERROR, e.getMessage() != null ? e.getMessage() : e));
+        }
+
+        private Command parse(String commandText) {
+            try {
+                Command command = commandParser.parse(commandText);
+                if (command instanceof RunCommand) {
+                    addError(MESSAGE_NESTED_RUN);
+                    return null;
+                }
+                if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                    addError(MESSAGE_UNDO_IN_SCRIPT);
+                    return null;
+                }
+                return command;
+            } catch (ParseException pe) {
+                addError(pe.getMessage());
+                return null;
+            } catch (RuntimeException e) {
+                addUnexpectedError(e);
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+}
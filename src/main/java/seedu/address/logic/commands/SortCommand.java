@@ -54,4 +54,9 @@ public class SortCommand extends Command {
         }
         return new CommandResult(String.format(outMessage, sortType.name()));
     }
+
+    @Override
+    public boolean dependsOnDisplayedList() {
+        return true;
+    }
 }
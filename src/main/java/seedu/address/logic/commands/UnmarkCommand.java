@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,46 +13,70 @@ import seedu.address.model.Model;
 import seedu.address.model.company.Company;
 
 /**
- * Unmarks a company as applied using it's displayed index from the InternBook.
+ * Unmarks companies as applied using their displayed indexes from the InternBook.
  */
 public class UnmarkCommand extends Command {
     public static final String COMMAND_WORD = "unmark";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unmarks a company as applied.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unmarks companies as applied.\n"
+            + "Parameters: INDEXES (positive integers or ranges of them, separated by commas)\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 3-250,300";
 
     public static final String MESSAGE_UNMARK_COMPANY_SUCCESS = "Company unmarked as applied: %1$s";
+    public static final String MESSAGE_UNMARK_COMPANIES_SUCCESS = "%1$d companies unmarked as applied";
     public static final String MESSAGE_COMPANY_ALREADY_UNMARKED = "This company has not been marked as applied yet";
+    public static final String MESSAGE_COMPANIES_ALREADY_UNMARKED =
+            "The company at index %1$d has not been marked as applied yet";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     /**
      * Creates a UnmarkCommand to unmark the specified {@code Company}
      * @param targetIndex
      */
     public UnmarkCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a UnmarkCommand to unmark the companies at {@code targetIndexes}, which must not be empty.
+     */
+    public UnmarkCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty() : "Target indexes cannot be empty";
+        this.targetIndexes = IndexRangeList.copyOf(targetIndexes);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Company> lastShownList = model.getFilteredCompanyList();
-
-        // Assertion to ensure that the target index is not null
-        assert targetIndex != null : "Target index cannot be null";
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
+        List<Company> companiesToUnmark = getCompaniesAt(lastShownList, targetIndexes);
+
+        for (int i = 0; i < companiesToUnmark.size(); i++) {
+            Company company = companiesToUnmark.get(i);
+            if (!model.isCompanyMarked(company)) {
+                throw new CommandException(companiesToUnmark.size() == 1
+                        ? MESSAGE_COMPANY_ALREADY_UNMARKED
+                        : String.format(MESSAGE_COMPANIES_ALREADY_UNMARKED, targetIndexes.get(i).getOneBased()));
+            }
         }
 
-        Company companyToUnmark = lastShownList.get(targetIndex.getZeroBased());
-        if (!model.isCompanyMarked(companyToUnmark)) {
-            throw new CommandException(MESSAGE_COMPANY_ALREADY_UNMARKED);
+        model.batch(() -> {
+            for (Company company : companiesToUnmark) {
+                model.unmarkCompany(company);
+            }
+        });
+
+        if (companiesToUnmark.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_UNMARK_COMPANY_SUCCESS,
+                    Messages.format(companiesToUnmark.get(0))));
         }
+        return new CommandResult(String.format(MESSAGE_UNMARK_COMPANIES_SUCCESS, companiesToUnmark.size()));
+    }
 
-        model.unmarkCompany(companyToUnmark);
-        return new CommandResult(String.format(MESSAGE_UNMARK_COMPANY_SUCCESS, Messages.format(companyToUnmark)));
+    @Override
+    public boolean dependsOnDisplayedList() {
+        return true;
     }
 
     @Override
@@ -65,13 +90,13 @@ public class UnmarkCommand extends Command {
         }
 
         UnmarkCommand otherUnmarkCommand = (UnmarkCommand) other;
-        return targetIndex.equals(otherUnmarkCommand.targetIndex);
+        return targetIndexes.equals(otherUnmarkCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
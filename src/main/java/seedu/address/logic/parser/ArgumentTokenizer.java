@@ -1,10 +1,5 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  *     e.g. {@code some preamble text -t 11.00 -t 12.00 -k -m July}  where prefixes are {@code -t -k -m}.<br>
@@ -12,137 +7,121 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code -t}
  *    in the above example.<br>
+ * 4. A prefix is only recognized if there is a space before it. If several prefixes start at the same position,
+ *    the longest of them is recognized.<br>
  */
 public class ArgumentTokenizer {
 
+    /** Marks the text before the first prefix. */
+    private static final Prefix PREAMBLE = new Prefix("");
+    /** Stands for any character when the given prefixes do not all start with the same character. */
+    private static final int ANY_CHAR = -1;
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * <p>
+     * The arguments string is scanned once from left to right. Every value is cut out of the arguments string as
+     * soon as the prefix after it is found, so nothing but the values and the returned map is allocated.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPosition = 0;
+        int firstChar = getSharedFirstChar(prefixes);
+
+        int position = findCandidatePosition(argsString, 1, firstChar);
+        while (position != -1) {
+            Prefix prefix = findLongestPrefixAt(argsString, position, prefixes);
+            if (prefix == null) {
+                position = findCandidatePosition(argsString, position + 1, firstChar);
+                continue;
+            }
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPosition, position));
+            currentPrefix = prefix;
+            valueStartPosition = position + prefix.getPrefix().length();
+            // Continue after the prefix, so that no prefix is found inside it
+            position = findCandidatePosition(argsString, valueStartPosition, firstChar);
+        }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPosition, argsString.length()));
 
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+        return argMultimap;
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Returns the character that all non-empty {@code prefixes} start with, or {@link #ANY_CHAR} if there is none.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    private static int getSharedFirstChar(Prefix... prefixes) {
+        int firstChar = ANY_CHAR;
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (prefixString.isEmpty()) {
+                continue;
+            }
+            if (firstChar != ANY_CHAR && prefixString.charAt(0) != firstChar) {
+                return ANY_CHAR;
+            }
+            firstChar = prefixString.charAt(0);
         }
-
-        return positions;
+        return firstChar;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * Returns the first position from {@code fromPosition} onwards in {@code argsString} where a prefix starting with
+     * {@code firstChar} could start, that is a position right after a space holding {@code firstChar}. Returns -1 if
+     * there is no such position. {@code fromPosition} must be at least 1.
+     * <p>
+     * The search jumps from one occurrence of {@code firstChar} to the next, which is rare in argument values, or
+     * from one space to the next if {@code firstChar} is {@link #ANY_CHAR}.
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static int findCandidatePosition(String argsString, int fromPosition, int firstChar) {
+        if (firstChar == ANY_CHAR) {
+            int spacePosition = argsString.indexOf(' ', fromPosition - 1);
+            return spacePosition == -1 || spacePosition + 1 == argsString.length() ? -1 : spacePosition + 1;
         }
-
-        return argMultimap;
+        int position = argsString.indexOf(firstChar, fromPosition);
+        while (position != -1 && argsString.charAt(position - 1) != ' ') {
+            position = argsString.indexOf(firstChar, position + 1);
+        }
+        return position;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the longest of {@code prefixes} that starts at {@code position} in {@code argsString}, or null if
+     * none of them does. Empty prefixes are never returned.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static Prefix findLongestPrefixAt(String argsString, int position, Prefix... prefixes) {
+        char firstChar = argsString.charAt(position);
+        Prefix longestPrefix = null;
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (prefixString.isEmpty() || prefixString.charAt(0) != firstChar
+                    || !argsString.startsWith(prefixString, position)) {
+                continue;
+            }
+            if (longestPrefix == null || prefixString.length() > longestPrefix.getPrefix().length()) {
+                longestPrefix = prefix;
+            }
+        }
+        return longestPrefix;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the value between {@code startPosition} and {@code endPosition} in {@code argsString}, without leading
+     * and trailing whitespaces. Like {@link String#trim()}, but without creating the untrimmed value first.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static String extractArgumentValue(String argsString, int startPosition, int endPosition) {
+        while (startPosition < endPosition && argsString.charAt(startPosition) <= ' ') {
+            startPosition++;
         }
-
-        Prefix getPrefix() {
-            return prefix;
+        while (endPosition > startPosition && argsString.charAt(endPosition - 1) <= ' ') {
+            endPosition--;
         }
+        return argsString.substring(startPosition, endPosition);
     }
 
 }
@@ -0,0 +1,213 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The commands that can be parsed, keyed by command word.
+ * <p>
+ * The first word of the user input selects the command, and the rest of the input is given to the parser registered
+ * for it. A command can also be selected by any abbreviation of its command word that no other command word starts
+ * with, unless it was registered with {@link #registerWithoutAbbreviation}. Command words are kept in a trie, so
+ * finding the command takes one step per character of the first word, and the first word is never copied.
+ * <p>
+ * The registered parsers are shared by every input they parse, so they must not keep any state between inputs.
+ * All commands must be registered before the registry is used by several threads. Parsing does not modify the
+ * registry, so it can then be used by any number of threads at once.
+ */
+public class CommandRegistry implements Parser<Command> {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRegistry.class);
+
+    private final Node root = new Node();
+
+    /**
+     * Registers {@code parser} for the arguments of the command with {@code commandWord}, whose usage instructions
+     * are {@code usage}. The command can also be selected by an unambiguous abbreviation of {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty, contains whitespace, or is already registered.
+     */
+    public void register(String commandWord, String usage, Parser<? extends Command> parser) {
+        register(new Registration(commandWord, usage, parser, true));
+    }
+
+    /**
+     * Registers {@code parser} for the arguments of the command with {@code commandWord}, whose usage instructions
+     * are {@code usage}. The command can only be selected by typing {@code commandWord} in full, which suits commands
+     * that are hard to undo.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty, contains whitespace, or is already registered.
+     */
+    public void registerWithoutAbbreviation(String commandWord, String usage, Parser<? extends Command> parser) {
+        register(new Registration(commandWord, usage, parser, false));
+    }
+
+    private void register(Registration registration) {
+        String commandWord = registration.commandWord;
+        if (commandWord.isEmpty() || getCommandWordEnd(commandWord) != commandWord.length()) {
+            throw new IllegalArgumentException("Invalid command word: \"" + commandWord + "\"");
+        }
+        Node existingNode = findNode(commandWord, commandWord.length());
+        if (existingNode != null && existingNode.registration != null) {
+            throw new IllegalArgumentException("Command word already registered: " + commandWord);
+        }
+
+        Node node = root;
+        node.registrationsBelow.add(registration);
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.children.computeIfAbsent(commandWord.charAt(i), unused -> new Node());
+            node.registrationsBelow.add(registration);
+        }
+        node.registration = registration;
+    }
+
+    /**
+     * Parses {@code userInput} with the parser of the command its first word selects.
+     *
+     * @throws ParseException if {@code userInput} is blank, its first word selects no command or several commands,
+     *     or its arguments do not conform to the format of the command.
+     */
+    @Override
+    public Command parse(String userInput) throws ParseException {
+        String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+
+        int commandWordEnd = getCommandWordEnd(trimmedInput);
+        Registration registration = resolve(trimmedInput, commandWordEnd);
+        String arguments = trimmedInput.substring(commandWordEnd);
+
+        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
+        // log messages such as the one below.
+        // Lower level log messages are used sparingly to minimize noise in the code.
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Command word: " + registration.commandWord + "; Arguments: " + arguments);
+        }
+        return registration.parser.parse(arguments);
+    }
+
+    /**
+     * Returns the full command word of the command that the first word of {@code userInput} selects, or an empty
+     * {@code Optional} if it selects no command or several commands.
+     */
+    public Optional<String> findCommandWord(String userInput) {
+        String trimmedInput = userInput.trim();
+        try {
+            return Optional.of(resolve(trimmedInput, getCommandWordEnd(trimmedInput)).commandWord);
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the usage instructions of every registered command, in the order the commands were registered.
+     */
+    public List<String> getUsages() {
+        List<String> usages = new ArrayList<>();
+        for (Registration registration : root.registrationsBelow) {
+            usages.add(registration.usage);
+        }
+        return usages;
+    }
+
+    /**
+     * Returns the registration of the command selected by the first {@code end} characters of {@code input}.
+     */
+    private Registration resolve(String input, int end) throws ParseException {
+        Node node = end == 0 ? null : findNode(input, end);
+        if (node == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (node.registration != null) {
+            return node.registration;
+        }
+
+        List<Registration> candidates = node.registrationsBelow;
+        if (candidates.size() == 1) {
+            Registration onlyCandidate = candidates.get(0);
+            if (!onlyCandidate.canAbbreviate) {
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            }
+            return onlyCandidate;
+        }
+
+        List<String> candidateWords = new ArrayList<>();
+        for (Registration candidate : candidates) {
+            candidateWords.add(candidate.commandWord);
+        }
+        candidateWords.sort(null);
+        throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, input.substring(0, end),
+                String.join(", ", candidateWords)));
+    }
+
+    /**
+     * Returns the node reached from the root by the first {@code end} characters of {@code input}, or null if no
+     * command word starts with them.
+     */
+    private Node findNode(String input, int end) {
+        Node node = root;
+        for (int i = 0; i < end && node != null; i++) {
+            node = node.children.get(input.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Returns the index of the first whitespace character in {@code input}, or the length of {@code input} if there
+     * is none.
+     */
+    private static int getCommandWordEnd(String input) {
+        int end = 0;
+        while (end < input.length() && !Character.isWhitespace(input.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * A command word, the usage instructions of its command and the parser of its arguments.
+     */
+    private static class Registration {
+        private final String commandWord;
+        private final String usage;
+        private final Parser<? extends Command> parser;
+        private final boolean canAbbreviate;
+
+        Registration(String commandWord, String usage, Parser<? extends Command> parser, boolean canAbbreviate) {
+            requireNonNull(commandWord);
+            requireNonNull(usage);
+            requireNonNull(parser);
+            this.commandWord = commandWord;
+            this.usage = usage;
+            this.parser = parser;
+            this.canAbbreviate = canAbbreviate;
+        }
+    }
+
+    /**
+     * A node of the trie of command words, reached by one prefix of them.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        /** The commands whose command word starts with the prefix of this node. */
+        private final List<Registration> registrationsBelow = new ArrayList<>();
+        /** The command whose command word is the prefix of this node, if there is one. */
+        private Registration registration;
+    }
+}
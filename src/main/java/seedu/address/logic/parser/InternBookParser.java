@@ -1,13 +1,8 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import java.util.List;
+import java.util.Optional;
 
-import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
@@ -18,85 +13,73 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SetReminderCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * <p>
+ * Each command word is registered once with a parser that is reused for every input, so adding a command only takes
+ * a new entry in {@code createRegistry}. Commands can also be typed as any unambiguous abbreviation of their
+ * command word, except {@code clear}, {@code delete} and {@code edit}, which change or remove existing data and have to
+ * be typed in full, so that a typo in another command word cannot run them.
  */
 public class InternBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(InternBookParser.class);
+    private final CommandRegistry registry = createRegistry();
+
+    private CommandRegistry createRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, AddCommand.MESSAGE_USAGE, new AddCommandParser());
+        registry.registerWithoutAbbreviation(EditCommand.COMMAND_WORD, EditCommand.MESSAGE_USAGE,
+                new EditCommandParser());
+        registry.registerWithoutAbbreviation(DeleteCommand.COMMAND_WORD, DeleteCommand.MESSAGE_USAGE,
+                new DeleteCommandParser());
+        registry.registerWithoutAbbreviation(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE,
+                arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, FindCommand.MESSAGE_USAGE, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, ExitCommand.MESSAGE_USAGE, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE, arguments -> new HelpCommand());
+        registry.register(SortCommand.COMMAND_WORD, SortCommand.MESSAGE_USAGE, new SortCommandParser());
+        registry.register(SetReminderCommand.COMMAND_WORD, SetReminderCommand.MESSAGE_USAGE, new SetReminderParser());
+        registry.register(MarkCommand.COMMAND_WORD, MarkCommand.MESSAGE_USAGE, new MarkCommandParser());
+        registry.register(UnmarkCommand.COMMAND_WORD, UnmarkCommand.MESSAGE_USAGE, new UnmarkCommandParser());
+        registry.register(RunCommand.COMMAND_WORD, RunCommand.MESSAGE_USAGE, new RunCommandParser(this::parseCommand));
+        registry.register(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_USAGE, arguments -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_USAGE, arguments -> new RedoCommand());
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
+     * This parser does not change while parsing, so it can parse inputs from several threads at once.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
-        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
-        // log messages such as the one below.
-        // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case SetReminderCommand.COMMAND_WORD:
-            return new SetReminderParser().parse(arguments);
-
-        case MarkCommand.COMMAND_WORD:
-            return new MarkCommandParser().parse(arguments);
-
-        case UnmarkCommand.COMMAND_WORD:
-            return new UnmarkCommandParser().parse(arguments);
+        return registry.parse(userInput);
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    /**
+     * Returns the full command word of the command that {@code userInput} would be parsed into, or an empty
+     * {@code Optional} if its first word is not a command word or an unambiguous abbreviation of one.
+     */
+    public Optional<String> findCommandWord(String userInput) {
+        return registry.findCommandWord(userInput);
     }
 
+    /**
+     * Returns the usage instructions of every command, in a fixed order.
+     */
+    public List<String> getCommandUsages() {
+        return registry.getUsages();
+    }
 }
@@ -2,11 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeList;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.company.Date;
@@ -23,6 +26,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range %1$s is not two non-zero unsigned integers in ascending order, such as 3-250.";
 
     /**
      * Parses {@code String reminderOnOff} into a {@code ReminderOnOff}
@@ -67,6 +72,47 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes}, a comma-separated list of one-based indexes and ranges of indexes such as
+     * {@code 3-250,300}, into the {@code Index}es it contains. The indexes are returned in ascending order without
+     * repeats. Whitespace around the indexes, dashes and commas is ignored. The ranges are not expanded, so the
+     * indexes can be checked against the displayed list before any of them is created.
+     * @throws ParseException if any of the indexes or ranges is invalid.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        List<int[]> ranges = new ArrayList<>();
+        for (String part : oneBasedIndexes.split(",", -1)) {
+            ranges.add(parseIndexRange(part));
+        }
+
+        return IndexRangeList.of(ranges);
+    }
+
+    /**
+     * Parses {@code part}, either a one-based index or two one-based indexes separated by a dash, into the first and
+     * last index of the range it stands for.
+     */
+    private static int[] parseIndexRange(String part) throws ParseException {
+        int dash = part.indexOf('-');
+        if (dash < 0) {
+            int index = parseIndex(part).getOneBased();
+            return new int[] {index, index};
+        }
+
+        String trimmedFrom = part.substring(0, dash).trim();
+        String trimmedTo = part.substring(dash + 1).trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedFrom) || !StringUtil.isNonZeroUnsignedInteger(trimmedTo)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+        }
+        int from = Integer.parseInt(trimmedFrom);
+        int to = Integer.parseInt(trimmedTo);
+        if (from > to) {
+            throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+        }
+        return new int[] {from, to};
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -2,13 +2,18 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.sorttype.SortType;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.company.Company;
 import seedu.address.model.company.UniqueCompanyList;
+import seedu.address.model.company.WordPrefixIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -18,6 +23,20 @@ public class InternBook implements ReadOnlyInternBook {
 
     private final UniqueCompanyList companies;
 
+    /**
+     * Index of the words in the names and tags of {@code companies}, or null if it has not been built yet.
+     * It is only built by the first find, so that copies which are never searched, such as those being saved, do not
+     * pay for it. Once built, it must be updated whenever a company is added, replaced or removed, and rebuilt
+     * whenever all of the companies are replaced, so that a find never has to wait for it to be built again.
+     */
+    private WordPrefixIndex wordIndex;
+
+    /** Incremented every time the data in this intern book changes. */
+    private long version;
+
+    /** The last change made to the data in this intern book. */
+    private InternBookChange lastChange = InternBookChange.start();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -39,6 +58,21 @@ public class InternBook implements ReadOnlyInternBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code source} that is not affected by later changes to {@code source}, sorted the same way as
+     * {@code source}. The companies are immutable, so they are shared rather than copied.
+     */
+    public static InternBook snapshotOf(ReadOnlyInternBook source) {
+        requireNonNull(source);
+        InternBook snapshot = new InternBook();
+        snapshot.setCompanies(source.getCompanyList());
+        // the companies are already in sorted order, so sorting them again only takes one pass
+        snapshot.sortCompanyList(source.getSortType());
+        // the copy is sorted the same way, so changes made to it can follow the changes made to the source
+        snapshot.lastChange = source.getLastChange();
+        return snapshot;
+    }
+
     //// list overwrite operations
 
     /**
@@ -47,17 +81,40 @@ public class InternBook implements ReadOnlyInternBook {
      */
     public void setCompanies(List<Company> companies) {
         this.companies.setCompany(companies);
+        rebuildWordIndex();
+        lastChange = InternBookChange.start();
+        version++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is another {@code InternBook}, its companies are already known to be unique and are
+     * copied over without being checked again, and later changes follow the changes made to {@code newData}.
      */
     public void resetData(ReadOnlyInternBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof InternBook) {
+            companies.setCompany(((InternBook) newData).companies);
+            rebuildWordIndex();
+            lastChange = newData.getLastChange();
+            version++;
+            return;
+        }
         setCompanies(newData.getCompanyList());
     }
 
+    /**
+     * Runs {@code mutations}, which may modify this intern book in any way, as one change: listeners of the company
+     * list and the live reminder list are told about all of the changes at once, after {@code mutations} returns.
+     * Batches may be nested.
+     *
+     * @see UniqueCompanyList#batch(Runnable)
+     */
+    public void batch(Runnable mutations) {
+        companies.batch(mutations);
+    }
+
     //// company-level operations
 
     /**
@@ -74,6 +131,11 @@ public class InternBook implements ReadOnlyInternBook {
      */
     public void addCompany(Company p) {
         companies.add(p);
+        if (wordIndex != null) {
+            wordIndex.add(p);
+        }
+        lastChange = lastChange.thenAdd(p);
+        version++;
     }
 
     /**
@@ -85,7 +147,13 @@ public class InternBook implements ReadOnlyInternBook {
     public void setCompany(Company target, Company editedCompany) {
         requireNonNull(editedCompany);
 
-        companies.setCompany(target, editedCompany);
+        Company replaced = companies.setCompany(target, editedCompany);
+        if (wordIndex != null) {
+            wordIndex.remove(replaced);
+            wordIndex.add(editedCompany);
+        }
+        lastChange = lastChange.thenSet(replaced.getId(), editedCompany);
+        version++;
     }
 
     /**
@@ -93,7 +161,84 @@ public class InternBook implements ReadOnlyInternBook {
      * {@code key} must exist in the address book.
      */
     public void removeCompany(Company key) {
-        companies.remove(key);
+        Company removed = companies.remove(key);
+        if (wordIndex != null) {
+            wordIndex.remove(removed);
+        }
+        lastChange = lastChange.thenDelete(removed.getId());
+        version++;
+    }
+
+    /**
+     * Returns the company with the given {@code id}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Company> findCompanyById(long id) {
+        return companies.findById(id);
+    }
+
+    /**
+     * Returns the companies whose name or tags contain a word starting with {@code keyword}, that is the companies
+     * accepted by a {@code NameContainsKeywordsPredicate} for {@code keyword}. The companies are found through an
+     * index, in time proportional to the number of matches rather than the number of companies, once the first call
+     * has built the index.
+     *
+     * @see WordPrefixIndex#find(String)
+     */
+    public Set<Company> findCompanies(String keyword) {
+        if (wordIndex == null) {
+            wordIndex = new WordPrefixIndex();
+            rebuildWordIndex();
+        }
+        return wordIndex.find(keyword);
+    }
+
+    /**
+     * Indexes the current companies again from scratch, if the index has been built.
+     */
+    private void rebuildWordIndex() {
+        if (wordIndex == null) {
+            return;
+        }
+        wordIndex.clear();
+        for (Company company : companies) {
+            wordIndex.add(company);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of this intern book, in the order its companies are shown, which other threads can
+     * read while this intern book is being changed. Takes O(1) time and only reads a few fields of this intern book.
+     *
+     * @see UniqueCompanyList#snapshot()
+     */
+    public InternBookSnapshot snapshot() {
+        return new InternBookSnapshot(companies.snapshot(), version, lastChange);
+    }
+
+    /**
+     * Replaces the data of this intern book with the data of {@code snapshot}, sorted as it was when the snapshot was
+     * taken. The companies of {@code snapshot} are shared rather than copied, but indexing them again takes time
+     * proportional to their number. Later changes follow the last change made before the snapshot was taken.
+     */
+    void restore(InternBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        companies.restore(snapshot.getCompanies());
+        rebuildWordIndex();
+        lastChange = snapshot.getLastChange();
+        version++;
+    }
+
+    /**
+     * Returns a number that is incremented every time the data in this intern book changes.
+     * Two calls returning the same number mean that the data has not been modified in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public InternBookChange getLastChange() {
+        return lastChange;
     }
 
     //// util methods
@@ -111,9 +256,32 @@ public class InternBook implements ReadOnlyInternBook {
     }
 
     @Override
-    public ObservableList<Company> getReminderList(ReminderSettings reminderSettings) {
-        companies.sortCompanyListByEndDate();
-        return companies.asUnmodifiableReminderList(reminderSettings);
+    public ObservableList<Company> getReminderList(ReminderSettings reminderSettings, LocalDate today) {
+        return companies.asUnmodifiableReminderList(reminderSettings, today);
+    }
+
+    /**
+     * Returns an unmodifiable view of the companies to remind users about in the window last set by
+     * {@link #setReminderWindow(ReminderSettings, LocalDate)}, which is kept up to date as the companies change.
+     */
+    public ObservableList<Company> getLiveReminderList() {
+        return companies.asUnmodifiableLiveReminderList();
+    }
+
+    /**
+     * Makes the list returned by {@link #getLiveReminderList()} show the companies to remind users about as of
+     * {@code today} with {@code reminderSettings}.
+     */
+    public void setReminderWindow(ReminderSettings reminderSettings, LocalDate today) {
+        companies.setReminderWindow(reminderSettings, today);
+    }
+
+    /**
+     * Returns the first day after the date of the last reminder window on which the list returned by
+     * {@link #getLiveReminderList()} would change because of the date alone, if there is one.
+     */
+    public Optional<LocalDate> getNextReminderChangeDate() {
+        return companies.getNextReminderChangeDate();
     }
 
     @Override
@@ -130,33 +298,94 @@ public class InternBook implements ReadOnlyInternBook {
         InternBook otherInternBook = (InternBook) other;
         return companies.equals(otherInternBook.companies);
     }
+    /**
+     * Returns how the company list was last sorted, or null if it has not been sorted.
+     */
+    @Override
+    public SortType getSortType() {
+        return companies.getSortType();
+    }
+
+    /**
+     * Sorts the list of companies as given by {@code sortType}. Does nothing if {@code sortType} is null.
+     */
+    public void sortCompanyList(SortType sortType) {
+        if (sortType == null) {
+            return;
+        }
+        switch (sortType) {
+        case ALPHANUMERICAL_ASCENDING:
+            sortCompanyListByName();
+            break;
+        case STARTDATE_ASCENDING:
+            sortCompanyListByStartDate();
+            break;
+        case ENDDATE_ASCENDING:
+            sortCompanyListByEndDate();
+            break;
+        default:
+            throw new AssertionError("Unknown sort type " + sortType);
+        }
+    }
+
     /**
      * Sorts the list of companies by their name in ascending order, ignoring case.
      */
     public void sortCompanyListByName() {
-        companies.sortCompanyListByName();
+        if (companies.sortCompanyListByName()) {
+            lastChange = lastChange.thenSort(SortType.ALPHANUMERICAL_ASCENDING);
+            version++;
+        }
     }
 
+    /**
+     * Sorts the list of companies by their start date in ascending order.
+     */
     public void sortCompanyListByStartDate() {
-        companies.sortCompanyListByStartDate();
+        if (companies.sortCompanyListByStartDate()) {
+            lastChange = lastChange.thenSort(SortType.STARTDATE_ASCENDING);
+            version++;
+        }
     }
 
+    /**
+     * Sorts the list of companies by their end date in ascending order.
+     */
     public void sortCompanyListByEndDate() {
-        companies.sortCompanyListByEndDate();
+        if (companies.sortCompanyListByEndDate()) {
+            lastChange = lastChange.thenSort(SortType.ENDDATE_ASCENDING);
+            version++;
+        }
     }
 
     /**
      * Marks the given company as applied.
      */
     public void markCompany(Company target) {
-        companies.mark(target);
+        Company marked = companies.mark(target);
+        replaceInWordIndex(marked);
+        lastChange = lastChange.thenMark(marked.getId(), true);
+        version++;
     }
 
     /**
      * Unmarks the given company as applied.
      */
     public void unmarkCompany(Company target) {
-        companies.unmark(target);
+        Company unmarked = companies.unmark(target);
+        replaceInWordIndex(unmarked);
+        lastChange = lastChange.thenMark(unmarked.getId(), false);
+        version++;
+    }
+
+    /**
+     * Puts {@code company} in the word index in place of the company equal to it, which it replaced in the list.
+     */
+    private void replaceInWordIndex(Company company) {
+        if (wordIndex != null) {
+            wordIndex.remove(company);
+            wordIndex.add(company);
+        }
     }
 
     /**
@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.sorttype.SortType;
+import seedu.address.model.company.Company;
+
+/**
+ * An immutable record of one change made to an {@code InternBook}, which storage can save instead of the whole
+ * intern book. Companies are referred to by their ids, which stay the same when companies are edited, marked or
+ * sorted.
+ * <p>
+ * Each change links to the change made before it, so the changes made to an intern book form a chain that snapshots
+ * share in O(1) time. A chain starts with a {@link Type#START} change whenever the data of an intern book is
+ * replaced as a whole, and is cut after {@link #MAX_CHAIN_LENGTH} changes so that it does not keep every change ever
+ * made. A reader that remembers the last change it has seen can ask a later change for the changes in between, and
+ * must fall back to reading the whole intern book if that change is no longer in the chain.
+ */
+public final class InternBookChange {
+
+    /** The number of changes a chain can hold before it is cut. */
+    static final int MAX_CHAIN_LENGTH = 4096;
+
+    /**
+     * The kinds of changes that can be made to an intern book.
+     */
+    public enum Type {
+        /** The data was replaced as a whole, by the data that the later changes are made to. */
+        START,
+        /** A company was added. */
+        ADD,
+        /** The company with the id was replaced by another company. */
+        SET,
+        /** The company with the id was removed. */
+        DELETE,
+        /** The company with the id was marked as applied. */
+        MARK,
+        /** The company with the id was unmarked as applied. */
+        UNMARK,
+        /** The companies were sorted in a different order. */
+        SORT
+    }
+
+    private final Type type;
+    private final long companyId;
+    private final Company company;
+    private final SortType sortType;
+    /** The change made before this one, or null if this change starts a chain or the chain was cut before it. */
+    private final InternBookChange previous;
+    /** The number of changes before this one in its chain. */
+    private final int position;
+
+    private InternBookChange(Type type, long companyId, Company company, SortType sortType,
+                             InternBookChange previous) {
+        this.type = type;
+        this.companyId = companyId;
+        this.company = company;
+        this.sortType = sortType;
+        this.previous = previous;
+        this.position = previous == null ? 0 : previous.position + 1;
+    }
+
+    /**
+     * Returns a change that starts a new chain.
+     */
+    static InternBookChange start() {
+        return new InternBookChange(Type.START, 0, null, null, null);
+    }
+
+    InternBookChange thenAdd(Company company) {
+        requireNonNull(company);
+        return then(Type.ADD, company.getId(), company, null);
+    }
+
+    InternBookChange thenSet(long companyId, Company company) {
+        requireNonNull(company);
+        return then(Type.SET, companyId, company, null);
+    }
+
+    InternBookChange thenDelete(long companyId) {
+        return then(Type.DELETE, companyId, null, null);
+    }
+
+    InternBookChange thenMark(long companyId, boolean isMarked) {
+        return then(isMarked ? Type.MARK : Type.UNMARK, companyId, null, null);
+    }
+
+    InternBookChange thenSort(SortType sortType) {
+        requireNonNull(sortType);
+        return then(Type.SORT, 0, null, sortType);
+    }
+
+    private InternBookChange then(Type type, long companyId, Company company, SortType sortType) {
+        return new InternBookChange(type, companyId, company, sortType,
+                position + 1 < MAX_CHAIN_LENGTH ? this : null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the id of the company that was added, replaced, removed, marked or unmarked.
+     */
+    public long getCompanyId() {
+        return companyId;
+    }
+
+    /**
+     * Returns the company that was added, or the company that replaced the one with {@link #getCompanyId()}.
+     */
+    public Company getCompany() {
+        return company;
+    }
+
+    /**
+     * Returns the order the companies were sorted in, for a {@link Type#SORT} change.
+     */
+    public SortType getSortType() {
+        return sortType;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier} up to and including this change, in the order they were made,
+     * or an empty {@code Optional} if {@code earlier} is not before this change in its chain. Takes time proportional
+     * to the number of changes returned.
+     */
+    public Optional<List<InternBookChange>> getChangesSince(InternBookChange earlier) {
+        requireNonNull(earlier);
+        List<InternBookChange> changes = new ArrayList<>();
+        for (InternBookChange change = this; change != earlier; change = change.previous) {
+            // positions only decrease towards the start of a chain, so earlier cannot be further back
+            if (change == null || change.position <= earlier.position) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.sorttype.SortType;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyListSnapshot;
+
+/**
+ * An immutable copy of an {@code InternBook} at one version, which any number of threads can read at once.
+ *
+ * @see InternBook#snapshot()
+ */
+public final class InternBookSnapshot implements ReadOnlyInternBook {
+
+    private final CompanyListSnapshot companies;
+    private final long version;
+    private final InternBookChange lastChange;
+    /** The companies as an {@code ObservableList}, or null until it is first asked for. */
+    private volatile ObservableList<Company> companyList;
+
+    InternBookSnapshot(CompanyListSnapshot companies, long version, InternBookChange lastChange) {
+        requireAllNonNull(companies, lastChange);
+        this.companies = companies;
+        this.version = version;
+        this.lastChange = lastChange;
+    }
+
+    /**
+     * Returns the {@link InternBook#getVersion() version} of the intern book that this is a copy of.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public InternBookChange getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Returns the companies of this snapshot, for {@link InternBook#restore(InternBookSnapshot)}.
+     */
+    CompanyListSnapshot getCompanies() {
+        return companies;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The companies are only put in the order they were shown by the first call.
+     */
+    @Override
+    public ObservableList<Company> getCompanyList() {
+        ObservableList<Company> list = companyList;
+        if (list == null) {
+            list = FXCollections.unmodifiableObservableList(FXCollections.observableList(companies.getCompanies()));
+            companyList = list;
+        }
+        return list;
+    }
+
+    @Override
+    public ObservableList<Company> getReminderList(ReminderSettings reminderSettings, LocalDate today) {
+        return FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(companies.findReminders(reminderSettings, today)));
+    }
+
+    @Override
+    public SortType getSortType() {
+        return companies.getSortType();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("companies", getCompanyList())
+                .add("version", version)
+                .toString();
+    }
+}
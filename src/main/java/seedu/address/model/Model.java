@@ -1,15 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.ReminderSettings;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.NameContainsKeywordsPredicate;
 
 /**
  * The API of the Model component.
+ * <p>
+ * Unless stated otherwise, methods must only be called on the thread that changes the model, which is the JavaFX
+ * application thread when there is a window. Other threads may only call the methods that are documented as safe
+ * to call from any thread.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
@@ -26,7 +33,7 @@ public interface Model {
     ReadOnlyUserPrefs getUserPrefs();
 
     /**
-     * Returns the user prefs' GUI settings.
+     * Returns the user prefs' GUI settings. Can be called from any thread.
      */
     GuiSettings getGuiSettings();
 
@@ -36,7 +43,7 @@ public interface Model {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Returns the user prefs' Reminder settings
+     * Returns the user prefs' Reminder settings. Can be called from any thread.
      */
     ReminderSettings getReminderSettings();
 
@@ -46,12 +53,12 @@ public interface Model {
     void setReminderSettings(ReminderSettings reminderSettings);
 
     /**
-     * Returns the user prefs' reminder status
+     * Returns the user prefs' reminder status. Can be called from any thread.
      */
     boolean getReminderStatus();
 
     /**
-     * Returns the user prefs' intern book file path.
+     * Returns the user prefs' intern book file path. Can be called from any thread.
      */
     Path getInternBookFilePath();
 
@@ -68,11 +75,31 @@ public interface Model {
     /** Returns the InternBook */
     ReadOnlyInternBook getInternBook();
 
+    /**
+     * Returns a number that changes whenever the intern book data is modified.
+     * Comparing the values returned by two calls tells whether the intern book changed in between.
+     * Can be called from any thread.
+     */
+    long getInternBookVersion();
+
+    /**
+     * Returns an immutable copy of the intern book that includes every change made so far, which any thread can read
+     * while the intern book is being changed. Can be called from any thread.
+     */
+    InternBookSnapshot getInternBookSnapshot();
+
     /**
      * Returns true if a company with the same identity as {@code company} exists in the intern book.
      */
     boolean hasCompany(Company company);
 
+    /**
+     * Runs {@code mutations}, which may modify the intern book through this model in any way, as one change.
+     * Listeners of the filtered company list and the reminder list are told about all of the changes at once, after
+     * {@code mutations} returns. Commands that change more than one company should make their changes in a batch.
+     */
+    void batch(Runnable mutations);
+
     /**
      * Deletes the given company.
      * The company must exist in the intern book.
@@ -93,18 +120,62 @@ public interface Model {
      */
     void setCompany(Company target, Company editedCompany);
 
+    /**
+     * Saves the current state of the intern book as one step that can be undone, if it changed since the last step.
+     */
+    void commitInternBook();
+
+    /**
+     * Returns true if the intern book has a previous state to undo to.
+     */
+    boolean canUndoInternBook();
+
+    /**
+     * Returns true if the intern book has an undone state to redo.
+     */
+    boolean canRedoInternBook();
+
+    /**
+     * Restores the intern book to its previous state. Changes that were not committed are discarded.
+     */
+    void undoInternBook();
+
+    /**
+     * Restores the intern book to its previously undone state. Changes that were not committed are discarded.
+     */
+    void redoInternBook();
+
     /** Returns an unmodifiable view of the filtered company list */
     ObservableList<Company> getFilteredCompanyList();
 
     /** Returns an unmodifiable view of the filtered list of companies for reminders */
     ObservableList<Company> getFilteredCompaniesRemindersList();
 
+    /**
+     * Recomputes the list of companies for reminders as of today's date.
+     */
+    void refreshReminderList();
+
+    /**
+     * Returns the first day after the date the list of companies for reminders was last computed for, on which
+     * the list would change because of the date alone, if there is one.
+     */
+    Optional<LocalDate> getNextReminderChangeDate();
+
     /**
      * Updates the filter of the filtered company list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredCompanyList(Predicate<Company> predicate);
 
+    /**
+     * Updates the filter of the filtered company list to show only the companies accepted by {@code predicate}.
+     * Unlike {@link #updateFilteredCompanyList(Predicate)}, the companies are looked up in a word index instead of
+     * testing {@code predicate} against every company.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredCompanyList(NameContainsKeywordsPredicate predicate);
+
     /**
      * Sorts the list of companies alphabetically
      */
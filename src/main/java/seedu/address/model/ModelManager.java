@@ -4,7 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,29 +21,59 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.ReminderSettings;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.NameContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * Changes to the intern book, user prefs and filtered lists hold the write lock of a {@code StampedLock}, so they are
+ * serialized. The reads that other threads may make copy what they need under an optimistic read, which does not
+ * block the thread making changes, and only fall back to the read lock if a change was made at the same time. Other
+ * threads read the companies through an immutable {@link InternBookSnapshot}, which is shared until the next change.
+ * <p>
+ * The intern book is a {@link VersionedInternBook}, whose committed states can be undone and redone.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final InternBook internBook;
+    private final VersionedInternBook internBook;
     private final UserPrefs userPrefs;
+    private final Clock clock;
     private final FilteredList<Company> filteredCompanies;
     private final FilteredList<Company> filteredReminder;
 
+    private final StampedLock lock = new StampedLock();
+    /** The thread holding the write lock, so that changes nested in a batch do not wait for themselves. */
+    private volatile Thread writer;
+    /** The latest snapshot of the intern book, which is reused until the intern book changes. */
+    private final AtomicReference<InternBookSnapshot> snapshot = new AtomicReference<>();
+
+    /** The number of batches that have been started but not ended. */
+    private int batchDepth;
+    /** Whether all companies are to be shown once the outermost batch ends. */
+    private boolean isShowAllPending;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyInternBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which reads today's date from
+     * {@code clock} when computing reminders.
+     */
+    public ModelManager(ReadOnlyInternBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.internBook = new InternBook(addressBook);
+        this.internBook = new VersionedInternBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
         filteredCompanies = new FilteredList<>(this.internBook.getCompanyList());
+        refreshReminderList();
         filteredReminder = new FilteredList<>(this.getReminderList());
     }
 
@@ -43,12 +81,56 @@ public class ModelManager implements Model {
         this(new InternBook(), new UserPrefs());
     }
 
+    /**
+     * Runs {@code change} while holding the write lock. Changes made by the thread that already holds it, such as
+     * those in a batch, run directly.
+     */
+    private void write(Runnable change) {
+        if (writer == Thread.currentThread()) {
+            change.run();
+            return;
+        }
+        long stamp = lock.writeLock();
+        writer = Thread.currentThread();
+        try {
+            change.run();
+        } finally {
+            writer = null;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the value computed by {@code reader}, which may be called from any thread. {@code reader} must only
+     * read fields, as it may run while a change is being made, in which case its result is discarded and it is run
+     * again under the read lock.
+     */
+    private <T> T read(Supplier<T> reader) {
+        if (writer == Thread.currentThread()) {
+            return reader.get();
+        }
+        long stamp = lock.tryOptimisticRead();
+        T value = reader.get();
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
-        this.userPrefs.resetData(userPrefs);
+        write(() -> {
+            this.userPrefs.resetData(userPrefs);
+            refreshReminderList();
+        });
     }
 
     @Override
@@ -58,47 +140,50 @@ public class ModelManager implements Model {
 
     @Override
     public GuiSettings getGuiSettings() {
-        return userPrefs.getGuiSettings();
+        return read(userPrefs::getGuiSettings);
     }
 
     @Override
     public ReminderSettings getReminderSettings() {
-        return userPrefs.getReminderSettings();
+        return read(userPrefs::getReminderSettings);
     }
 
     @Override
     public boolean getReminderStatus() {
-        return userPrefs.getReminderSettings().getReminderOn();
+        return getReminderSettings().getReminderOn();
     }
 
     @Override
     public void setReminderSettings(ReminderSettings reminderSettings) {
         requireNonNull(reminderSettings);
-        userPrefs.setReminderSettings(reminderSettings);
+        write(() -> {
+            userPrefs.setReminderSettings(reminderSettings);
+            refreshReminderList();
+        });
     }
 
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
-        userPrefs.setGuiSettings(guiSettings);
+        write(() -> userPrefs.setGuiSettings(guiSettings));
     }
 
     @Override
     public Path getInternBookFilePath() {
-        return userPrefs.getAddressBookFilePath();
+        return read(userPrefs::getAddressBookFilePath);
     }
 
     @Override
     public void setInternBookFilePath(Path internBookFilePath) {
         requireNonNull(internBookFilePath);
-        userPrefs.setAddressBookFilePath(internBookFilePath);
+        write(() -> userPrefs.setAddressBookFilePath(internBookFilePath));
     }
 
     //=========== AddressBook ================================================================================
 
     @Override
     public void setInternBook(ReadOnlyInternBook internBook) {
-        this.internBook.resetData(internBook);
+        write(() -> this.internBook.resetData(internBook));
     }
 
     @Override
@@ -106,6 +191,29 @@ public class ModelManager implements Model {
         return internBook;
     }
 
+    @Override
+    public long getInternBookVersion() {
+        return read(internBook::getVersion);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Taking a snapshot takes O(1) time, so it is taken under an optimistic read like the other reads. The snapshot
+     * is reused until the next change, so that the orders it sorts its companies in on first use are sorted once.
+     */
+    @Override
+    public InternBookSnapshot getInternBookSnapshot() {
+        InternBookSnapshot latest = snapshot.get();
+        if (latest != null && latest.getVersion() == getInternBookVersion()) {
+            return latest;
+        }
+
+        InternBookSnapshot taken = read(internBook::snapshot);
+        // Another thread may have published a newer snapshot in the meantime
+        return snapshot.accumulateAndGet(taken, (current, next) ->
+                current != null && current.getVersion() >= next.getVersion() ? current : next);
+    }
+
     @Override
     public boolean hasCompany(Company company) {
         requireNonNull(company);
@@ -114,20 +222,84 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteCompany(Company target) {
-        internBook.removeCompany(target);
+        write(() -> internBook.removeCompany(target));
     }
 
     @Override
     public void addCompany(Company company) {
-        internBook.addCompany(company);
-        updateFilteredCompanyList(PREDICATE_SHOW_ALL_PERSONS);
+        write(() -> {
+            internBook.addCompany(company);
+            if (batchDepth > 0) {
+                isShowAllPending = true;
+            } else {
+                showAllCompanies();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * Companies added in a batch are shown by filtering the company list once, after the batch.
+     */
+    @Override
+    public void batch(Runnable mutations) {
+        requireNonNull(mutations);
+        write(() -> {
+            batchDepth++;
+            try {
+                internBook.batch(mutations);
+            } finally {
+                batchDepth--;
+                if (batchDepth == 0 && isShowAllPending) {
+                    isShowAllPending = false;
+                    showAllCompanies();
+                }
+            }
+        });
+    }
+
+    /**
+     * Shows all companies in the filtered company list, unless it already shows all of them.
+     */
+    private void showAllCompanies() {
+        Predicate<? super Company> predicate = filteredCompanies.getPredicate();
+        if (predicate != null && predicate != PREDICATE_SHOW_ALL_PERSONS) {
+            updateFilteredCompanyList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
     public void setCompany(Company target, Company editedCompany) {
         requireAllNonNull(target, editedCompany);
 
-        internBook.setCompany(target, editedCompany);
+        write(() -> internBook.setCompany(target, editedCompany));
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitInternBook() {
+        write(internBook::commit);
+    }
+
+    @Override
+    public boolean canUndoInternBook() {
+        return internBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoInternBook() {
+        return internBook.canRedo();
+    }
+
+    @Override
+    public void undoInternBook() {
+        write(internBook::undo);
+    }
+
+    @Override
+    public void redoInternBook() {
+        write(internBook::redo);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -147,39 +319,71 @@ public class ModelManager implements Model {
         return this.filteredReminder;
     }
 
+    /**
+     * Returns the companies to remind the user about, in order of end date.
+     * The list is kept up to date as companies are added, edited, deleted, marked and unmarked, and when the
+     * reminder settings change.
+     */
     public ObservableList<Company> getReminderList() {
-        return this.internBook.getReminderList(this.userPrefs.getReminderSettings());
+        return this.internBook.getLiveReminderList();
+    }
+
+    /**
+     * Recomputes the reminder list for the current reminder settings and today's date.
+     * Only the companies that enter or leave the list are looked at if the date has not changed.
+     */
+    @Override
+    public void refreshReminderList() {
+        write(() -> internBook.setReminderWindow(userPrefs.getReminderSettings(), LocalDate.now(clock)));
+    }
+
+    @Override
+    public Optional<LocalDate> getNextReminderChangeDate() {
+        return internBook.getNextReminderChangeDate();
     }
 
     @Override
     public void updateFilteredCompanyList(Predicate<Company> predicate) {
         requireNonNull(predicate);
-        filteredCompanies.setPredicate(predicate);
+        write(() -> filteredCompanies.setPredicate(predicate));
+    }
+
+    @Override
+    public void updateFilteredCompanyList(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        write(() -> {
+            // matched by id, so that a company stays shown when marking it replaces it with a marked copy
+            Set<Long> matchingIds = new HashSet<>();
+            for (Company company : internBook.findCompanies(predicate.getKeyword())) {
+                matchingIds.add(company.getId());
+            }
+            filteredCompanies.setPredicate(company -> matchingIds.contains(company.getId()));
+        });
     }
 
     @Override
     public void sortCompanyListByName() {
-        internBook.sortCompanyListByName();
+        write(internBook::sortCompanyListByName);
     }
 
     @Override
     public void sortCompanyListByStartDate() {
-        internBook.sortCompanyListByStartDate();
+        write(internBook::sortCompanyListByStartDate);
     }
 
     @Override
     public void sortCompanyListByEndDate() {
-        internBook.sortCompanyListByEndDate();
+        write(internBook::sortCompanyListByEndDate);
     }
 
     @Override
     public void markCompany(Company target) {
-        internBook.markCompany(target);
+        write(() -> internBook.markCompany(target));
     }
 
     @Override
     public void unmarkCompany(Company target) {
-        internBook.unmarkCompany(target);
+        write(() -> internBook.unmarkCompany(target));
     }
 
     @Override
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.time.LocalDate;
+
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.sorttype.SortType;
 import seedu.address.model.company.Company;
 
 /**
@@ -16,8 +19,18 @@ public interface ReadOnlyInternBook {
     ObservableList<Company> getCompanyList();
 
     /**
-     * Returns an unmodifiable view of the companies list to remind users.
+     * Returns an unmodifiable view of the companies to remind users about as of {@code today}, in order of end date.
      * This list will not contain any duplicate companies.
      */
-    ObservableList<Company> getReminderList(ReminderSettings reminderSettings);
+    ObservableList<Company> getReminderList(ReminderSettings reminderSettings, LocalDate today);
+
+    /**
+     * Returns how the companies list is sorted, or null if it is in the order the companies were added.
+     */
+    SortType getSortType();
+
+    /**
+     * Returns the last change made to the data of this intern book, which links to the changes made before it.
+     */
+    InternBookChange getLastChange();
 }
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.SaveSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -16,4 +17,6 @@ public interface ReadOnlyUserPrefs {
 
     ReminderSettings getReminderSettings();
 
+    SaveSettings getSaveSettings();
+
 }
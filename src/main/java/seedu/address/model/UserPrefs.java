@@ -8,6 +8,7 @@ import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.SaveSettings;
 
 /**
  * Represents User's preferences.
@@ -17,6 +18,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private ReminderSettings reminderSettings = new ReminderSettings();
+    private SaveSettings saveSettings = new SaveSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setReminderSettings(newUserPrefs.getReminderSettings());
+        setSaveSettings(newUserPrefs.getSaveSettings());
     }
 
 
@@ -60,6 +63,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.reminderSettings = reminderSettings;
     }
 
+    public SaveSettings getSaveSettings() {
+        return saveSettings;
+    }
+
+    public void setSaveSettings(SaveSettings saveSettings) {
+        requireNonNull(saveSettings);
+        this.saveSettings = saveSettings;
+    }
+
     public Path getAddressBookFilePath() {
         return addressBookFilePath;
     }
@@ -82,12 +94,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && saveSettings.equals(otherUserPrefs.saveSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, saveSettings);
     }
 
     @Override
@@ -95,6 +108,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("Reminder Settings : " + reminderSettings);
+        sb.append("\nSave Settings : " + saveSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         return sb.toString();
     }
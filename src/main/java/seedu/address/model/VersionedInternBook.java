@@ -0,0 +1,129 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@code InternBook} that keeps a history of its states, so that changes can be undone and redone.
+ * <p>
+ * Each state is an {@link InternBookSnapshot}, which shares the companies that did not change, and the nodes holding
+ * them, with the states before it and with the current companies. Committing a state therefore takes O(1) time, and
+ * each state costs memory in proportion to the number of companies changed since the previous one. Undoing or
+ * redoing shares the companies of the restored state rather than copying them, and only takes time proportional to
+ * the number of companies to index and sort them again. At most {@code maxUndoSteps} states
+ * before the current one are kept, after which the oldest ones are dropped.
+ */
+public class VersionedInternBook extends InternBook {
+
+    /** The number of changes that can be undone by default. */
+    public static final int DEFAULT_MAX_UNDO_STEPS = 100;
+
+    private final int maxUndoSteps;
+    private final List<InternBookSnapshot> internBookStateList = new ArrayList<>();
+    private int currentStatePointer;
+    /** The version of this intern book when it was last committed, undone or redone. */
+    private long currentStateVersion;
+
+    /**
+     * Creates a {@code VersionedInternBook} with the data of {@code initialState} as its only state, which keeps
+     * {@link #DEFAULT_MAX_UNDO_STEPS} states before the current one.
+     */
+    public VersionedInternBook(ReadOnlyInternBook initialState) {
+        this(initialState, DEFAULT_MAX_UNDO_STEPS);
+    }
+
+    /**
+     * Creates a {@code VersionedInternBook} with the data of {@code initialState} as its only state, which keeps
+     * {@code maxUndoSteps} states before the current one.
+     */
+    public VersionedInternBook(ReadOnlyInternBook initialState, int maxUndoSteps) {
+        super(initialState);
+        if (maxUndoSteps < 1) {
+            throw new IllegalArgumentException("At least one step must be undoable: " + maxUndoSteps);
+        }
+        this.maxUndoSteps = maxUndoSteps;
+        internBookStateList.add(snapshot());
+        currentStateVersion = getVersion();
+    }
+
+    /**
+     * Saves the current data of this intern book as a new state, after the current state, if it changed since it was
+     * last committed, undone or redone. The states that could have been redone are discarded.
+     */
+    public void commit() {
+        if (getVersion() == currentStateVersion) {
+            return;
+        }
+        internBookStateList.subList(currentStatePointer + 1, internBookStateList.size()).clear();
+        internBookStateList.add(snapshot());
+        if (internBookStateList.size() > maxUndoSteps + 1) {
+            internBookStateList.remove(0);
+        } else {
+            currentStatePointer++;
+        }
+        currentStateVersion = getVersion();
+    }
+
+    /**
+     * Restores the state before the current one. Changes that were not committed are discarded.
+     *
+     * @throws NoUndoableStateException if there is no state before the current one.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        currentStatePointer--;
+        restoreCurrentState();
+    }
+
+    /**
+     * Restores the state after the current one, which was undone. Changes that were not committed are discarded.
+     *
+     * @throws NoRedoableStateException if there is no state after the current one.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        currentStatePointer++;
+        restoreCurrentState();
+    }
+
+    /**
+     * Returns true if there is a state before the current one to undo to.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if there is an undone state after the current one to redo.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < internBookStateList.size() - 1;
+    }
+
+    private void restoreCurrentState() {
+        restore(internBookStateList.get(currentStatePointer));
+        currentStateVersion = getVersion();
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but there is no state to undo to.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of internBookState list, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but there is no state to redo.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of internBookState list, unable to redo.");
+        }
+    }
+}
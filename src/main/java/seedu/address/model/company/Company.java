@@ -1,5 +1,6 @@
 package seedu.address.model.company;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
@@ -8,18 +9,31 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Company in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * Every company also has a positive id that stays the same when it is edited, copied or saved, so that it can be
+ * referred to even after its fields change. The id is not one of the fields compared by {@link #equals(Object)} or
+ * {@link #isSameCompany(Company)}.
+ * <p>
+ * Whether the company is marked as applied is also not compared. Marking a company gives a new company, see
+ * {@link #withMarked(boolean)}, so a company can be shared by any number of lists and threads.
  */
 public class Company {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Company ids should be positive numbers";
+
+    /** The largest id given to any company so far. Ids of new companies are handed out after it. */
+    private static final AtomicLong lastId = new AtomicLong();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,24 +42,68 @@ public class Company {
     // Data fields
     private final Date startDate;
     private final Date endDate;
-    private final Set<Tag> tags = new HashSet<>();
-    private boolean isMarked;
-
-    // GUI fields
-    private final BooleanProperty checkboxIsMarked = new SimpleBooleanProperty();
+    private final Set<Tag> tags;
+    private final boolean isMarked;
 
     /**
-     * Every field must be present and not null.
+     * Creates a company with a new id. Every field must be present and not null.
      */
     public Company(Name name, Phone phone, Email email, Date startDate, Date endDate, Set<Tag> tags) {
+        this(lastId.incrementAndGet(), name, phone, email, startDate, endDate, tags);
+    }
+
+    /**
+     * Creates an unmarked company with the given {@code id}, such as an edited copy of a company.
+     * Every field must be present and not null, and {@code id} must be valid. Companies created afterwards without
+     * an id are given larger ones.
+     */
+    public Company(long id, Name name, Phone phone, Email email, Date startDate, Date endDate, Set<Tag> tags) {
+        this(id, name, phone, email, startDate, endDate, tags, false);
+    }
+
+    /**
+     * Creates a company with the given {@code id} that is marked as applied if {@code isMarked}, such as a loaded
+     * copy of a company. Every field must be present and not null, and {@code id} must be valid. Companies created
+     * afterwards without an id are given larger ones.
+     */
+    public Company(long id, Name name, Phone phone, Email email, Date startDate, Date endDate, Set<Tag> tags,
+            boolean isMarked) {
         requireAllNonNull(name, phone, startDate, endDate, email, tags);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        lastId.accumulateAndGet(id, Math::max);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.tags.addAll(tags);
+        this.tags = new HashSet<>(tags);
         this.startDate = startDate;
         this.endDate = endDate;
-        this.isMarked = false;
+        this.isMarked = isMarked;
+    }
+
+    /**
+     * Creates a copy of {@code company} that is marked as applied if {@code isMarked}, sharing all of its fields.
+     */
+    private Company(Company company, boolean isMarked) {
+        this.id = company.id;
+        this.name = company.name;
+        this.phone = company.phone;
+        this.email = company.email;
+        this.tags = company.tags;
+        this.startDate = company.startDate;
+        this.endDate = company.endDate;
+        this.isMarked = isMarked;
+    }
+
+    /**
+     * Returns true if a given number is a valid company id.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -95,10 +153,9 @@ public class Company {
     }
 
     /**
-     * Returns true if company is not marked as applied and end date is numOfDays days away
+     * Returns true if company is not marked as applied and end date is at most numOfDays days after currDate
      */
-    public boolean toRemind(long numOfDays) {
-        LocalDate currDate = LocalDate.now();
+    public boolean toRemind(long numOfDays, LocalDate currDate) {
         if (endDate.getDate().isBefore(currDate) || isMarked || !endDate.isDatePresent()) {
             return false;
         }
@@ -150,19 +207,11 @@ public class Company {
     }
 
     /**
-     * Sets the application status of the company to marked.
+     * Returns this company with its application status set to marked if {@code isMarked}, or unmarked otherwise.
+     * The returned company has the same id and fields as this company, and is this company if the status is the same.
      */
-    public void mark() {
-        isMarked = true;
-        checkboxIsMarked.set(true);
-    }
-
-    /**
-     * Sets the application status of the company to unmarked.
-     */
-    public void unmark() {
-        isMarked = false;
-        checkboxIsMarked.set(false);
+    public Company withMarked(boolean isMarked) {
+        return isMarked == this.isMarked ? this : new Company(this, isMarked);
     }
 
     /**
@@ -171,12 +220,4 @@ public class Company {
     public boolean isMarked() {
         return isMarked;
     }
-
-    /**
-     * Returns the application status of the company as a BooleanProperty.
-     * This is used to bind the application status of the company to the GUI.
-     */
-    public BooleanProperty checkboxIsMarked() {
-        return checkboxIsMarked;
-    }
 }
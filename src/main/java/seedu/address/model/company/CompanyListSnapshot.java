@@ -0,0 +1,93 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.sorttype.SortType;
+import seedu.address.commons.util.PersistentList;
+
+/**
+ * An immutable copy of the companies of a {@code UniqueCompanyList}, which any number of threads can read at once.
+ * <p>
+ * The companies are kept in the order they were added, in a {@link PersistentList} shared with the list they were
+ * taken from. They are only sorted in the order they were shown, or by end date to find reminders, the first time
+ * that order is asked for.
+ *
+ * @see UniqueCompanyList#snapshot()
+ */
+public final class CompanyListSnapshot {
+
+    private final PersistentList<Company> companies;
+    private final SortType sortType;
+    /** The companies in the order they were shown, or null until it is first asked for. */
+    private volatile List<Company> shownCompanies;
+    /** The companies in order of end date, or null until it is first asked for. */
+    private volatile List<Company> companiesByEndDate;
+
+    /**
+     * Creates a snapshot of {@code companies}, in the order they were added, which were shown as given by
+     * {@code sortType}, or in the order they were added if {@code sortType} is null.
+     */
+    CompanyListSnapshot(PersistentList<Company> companies, SortType sortType) {
+        requireNonNull(companies);
+        this.companies = companies;
+        this.sortType = sortType;
+    }
+
+    /**
+     * Returns the companies in the order they were shown when the snapshot was taken.
+     */
+    public List<Company> getCompanies() {
+        List<Company> shown = shownCompanies;
+        if (shown == null) {
+            // Threads that ask at the same time may both sort the companies, which is harmless as the results are equal
+            shown = sortType == null ? companies : sort(UniqueCompanyList.getOrder(sortType));
+            shownCompanies = shown;
+        }
+        return shown;
+    }
+
+    /**
+     * Returns the companies to remind the user about as of {@code today}, in order of end date.
+     *
+     * @see UniqueCompanyList#asUnmodifiableReminderList(ReminderSettings, LocalDate)
+     */
+    public List<Company> findReminders(ReminderSettings reminderSettings, LocalDate today) {
+        requireAllNonNull(reminderSettings, today);
+        List<Company> byEndDate = companiesByEndDate;
+        if (byEndDate == null) {
+            byEndDate = sortType == SortType.ENDDATE_ASCENDING
+                    ? getCompanies()
+                    : sort(UniqueCompanyList.getOrder(SortType.ENDDATE_ASCENDING));
+            companiesByEndDate = byEndDate;
+        }
+        return ReminderView.findReminders(byEndDate, reminderSettings.getNumOfDays(), today);
+    }
+
+    /**
+     * Returns how the companies were sorted when the snapshot was taken, or null if they were not sorted.
+     */
+    public SortType getSortType() {
+        return sortType;
+    }
+
+    /**
+     * Returns the companies in the order they were added, which is the order they are restored in.
+     */
+    PersistentList<Company> getCompaniesInOrderAdded() {
+        return companies;
+    }
+
+    private List<Company> sort(Comparator<Company> order) {
+        Company[] sorted = companies.toArray(new Company[0]);
+        Arrays.sort(sorted, order);
+        return Collections.unmodifiableList(Arrays.asList(sorted));
+    }
+}
@@ -27,6 +27,19 @@ public class Date {
         this.date = LocalDate.parse(date);
     }
 
+    private Date(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * Returns a {@code Date} for the given {@code date}, which is an empty {@code Date} if {@code date} is the
+     * placeholder used for empty dates.
+     */
+    public static Date of(LocalDate date) {
+        requireNonNull(date);
+        return new Date(date);
+    }
+
     /**
      * Constructs an empty {@code Date}
      */
@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Company> {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(Company company) {
         return ((StringUtil.containsStartSubstringIgnoreCase(company.getName().fullName, keyword))
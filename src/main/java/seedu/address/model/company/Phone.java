@@ -3,6 +3,8 @@ package seedu.address.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+
 /**
  * Represents a Company's phone number in the intern book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -83,7 +85,7 @@ public class Phone {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Objects.hashCode(value);
     }
 
     public boolean isPhonePresent() {
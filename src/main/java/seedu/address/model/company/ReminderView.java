@@ -0,0 +1,213 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The companies in a {@code UniqueCompanyList} to remind the user about, in order of end date.
+ * <p>
+ * A company is reminded about if it is not marked and its end date is between today and {@code numOfDays} days after
+ * today. The view is empty until a reminder window is set. From then on, every company added to, removed from,
+ * marked or unmarked in the {@code UniqueCompanyList} is inserted into or removed from the view at its sorted
+ * position, so the view never has to be computed again unless the window changes.
+ * <p>
+ * The end dates of the unmarked companies are also counted in a sorted map, so that the next date the view changes
+ * on is found in O(log n) time, however many marked companies end after the window.
+ */
+class ReminderView {
+
+    private final Comparator<Company> comparator;
+    private final ObservableList<Company> reminders = FXCollections.observableArrayList();
+    /** The number of unmarked companies with an end date that end on each date, kept only while there is a window. */
+    private final TreeMap<LocalDate, Integer> unmarkedEndDateCounts = new TreeMap<>();
+    private LocalDate today;
+    private long numOfDays;
+
+    /**
+     * Creates an empty view that keeps its companies in the order given by {@code comparator}, which must order
+     * companies by end date first.
+     */
+    ReminderView(Comparator<Company> comparator) {
+        this.comparator = requireNonNull(comparator);
+    }
+
+    ObservableList<Company> getReminders() {
+        return reminders;
+    }
+
+    /**
+     * Returns true if a reminder window has been set, so that this view has to be kept up to date.
+     */
+    boolean hasWindow() {
+        return today != null;
+    }
+
+    /**
+     * Shows the companies to remind about {@code numOfDays} days ahead of {@code today}.
+     * If only {@code numOfDays} changed, only the companies between the old and new last day are looked at.
+     * {@code companiesByEndDate} must be the companies of the {@code UniqueCompanyList} in the order of this view.
+     */
+    void setWindow(long numOfDays, LocalDate today, List<Company> companiesByEndDate) {
+        requireNonNull(today);
+        if (!hasWindow()) {
+            this.today = today;
+            this.numOfDays = numOfDays;
+            reset(companiesByEndDate);
+        } else if (!today.equals(this.today)) {
+            this.today = today;
+            this.numOfDays = numOfDays;
+            reminders.setAll(findReminders(companiesByEndDate, numOfDays, today));
+        } else if (numOfDays < this.numOfDays) {
+            this.numOfDays = numOfDays;
+            reminders.remove(indexOfFirst(reminders, company -> isAfterWindow(company, numOfDays, today)),
+                    reminders.size());
+        } else if (numOfDays > this.numOfDays) {
+            long oldNumOfDays = this.numOfDays;
+            int from = indexOfFirst(companiesByEndDate, company -> isAfterWindow(company, oldNumOfDays, today));
+            this.numOfDays = numOfDays;
+            reminders.addAll(findReminders(companiesByEndDate, from, numOfDays, today));
+        }
+    }
+
+    /**
+     * Inserts {@code company} at its sorted position if it is to be reminded about.
+     */
+    void add(Company company) {
+        if (!hasWindow()) {
+            return;
+        }
+        if (isCounted(company)) {
+            unmarkedEndDateCounts.merge(company.getEndDate().getDate(), 1, Integer::sum);
+        }
+        if (!company.toRemind(numOfDays, today)) {
+            return;
+        }
+        int index = Collections.binarySearch(reminders, company, comparator);
+        assert index < 0 : "Company to add must not be in the reminder view";
+        reminders.add(-index - 1, company);
+    }
+
+    /**
+     * Removes {@code company} if it is in this view.
+     */
+    void remove(Company company) {
+        if (!hasWindow()) {
+            return;
+        }
+        if (isCounted(company)) {
+            unmarkedEndDateCounts.computeIfPresent(company.getEndDate().getDate(),
+                    (unused, count) -> count == 1 ? null : count - 1);
+        }
+        int index = Collections.binarySearch(reminders, company, comparator);
+        if (index >= 0) {
+            reminders.remove(index);
+        }
+    }
+
+    /**
+     * Recomputes the companies to remind about from {@code companiesByEndDate}, which are the new contents of the
+     * {@code UniqueCompanyList} in the order of this view. A view without a window stays empty.
+     */
+    void reset(List<Company> companiesByEndDate) {
+        if (!hasWindow()) {
+            return;
+        }
+        reminders.setAll(findReminders(companiesByEndDate, numOfDays, today));
+        unmarkedEndDateCounts.clear();
+        for (Company company : companiesByEndDate) {
+            if (isCounted(company)) {
+                unmarkedEndDateCounts.merge(company.getEndDate().getDate(), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Returns the first day after the window's today on which the view would change if the date moved on, or an
+     * empty {@code Optional} if it would never change. That is the day after the earliest company in the view ends,
+     * or the day the earliest unmarked company after the window enters it, whichever comes first.
+     */
+    Optional<LocalDate> getNextChangeDate() {
+        if (!hasWindow()) {
+            return Optional.empty();
+        }
+        LocalDate next = reminders.isEmpty() ? null : reminders.get(0).getEndDate().getDate().plusDays(1);
+
+        // a window that reaches past the last possible date has no companies after it
+        LocalDate firstEndDateAfterWindow = numOfDays >= today.until(LocalDate.MAX, ChronoUnit.DAYS)
+                ? null
+                : unmarkedEndDateCounts.ceilingKey(today.plusDays(numOfDays + 1));
+        if (firstEndDateAfterWindow != null) {
+            LocalDate entryDate = firstEndDateAfterWindow.minusDays(numOfDays);
+            if (next == null || entryDate.isBefore(next)) {
+                next = entryDate;
+            }
+        }
+        return Optional.ofNullable(next);
+    }
+
+    /**
+     * Returns the companies in {@code companiesByEndDate} to remind about {@code numOfDays} days ahead of
+     * {@code today}, without keeping them up to date.
+     */
+    static List<Company> findReminders(List<Company> companiesByEndDate, long numOfDays, LocalDate today) {
+        int from = indexOfFirst(companiesByEndDate, company -> !company.getEndDate().getDate().isBefore(today));
+        return findReminders(companiesByEndDate, from, numOfDays, today);
+    }
+
+    /**
+     * Returns the companies to remind about from index {@code from} of {@code companiesByEndDate} onwards,
+     * stopping at the first company that ends after the window.
+     */
+    private static List<Company> findReminders(List<Company> companiesByEndDate, int from, long numOfDays,
+            LocalDate today) {
+        List<Company> found = new ArrayList<>();
+        for (int i = from; i < companiesByEndDate.size(); i++) {
+            Company company = companiesByEndDate.get(i);
+            if (isAfterWindow(company, numOfDays, today)) {
+                break;
+            }
+            if (company.toRemind(numOfDays, today)) {
+                found.add(company);
+            }
+        }
+        return found;
+    }
+
+    private static boolean isCounted(Company company) {
+        return !company.isMarked() && company.getEndDate().isDatePresent();
+    }
+
+    private static boolean isAfterWindow(Company company, long numOfDays, LocalDate today) {
+        return today.until(company.getEndDate().getDate(), ChronoUnit.DAYS) > numOfDays;
+    }
+
+    /**
+     * Returns the index of the first company in {@code companies} that {@code predicate} accepts, or the size of
+     * {@code companies} if there is none. {@code predicate} must accept every company after one it accepts.
+     */
+    private static int indexOfFirst(List<Company> companies, Predicate<Company> predicate) {
+        int low = 0;
+        int high = companies.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(companies.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
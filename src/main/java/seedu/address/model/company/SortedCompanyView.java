@@ -0,0 +1,113 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of the companies in a {@code UniqueCompanyList}, kept in the order given by a comparator.
+ * <p>
+ * The copy is only built the first time it is asked for. From then on, every company added to or removed from the
+ * {@code UniqueCompanyList} is inserted into or removed from the copy at its sorted position, so the copy never
+ * has to be sorted again.
+ * <p>
+ * The comparator must only return 0 for companies that are equal, so that the sorted order only depends on which
+ * companies are in the list and not on the order they were added in.
+ */
+class SortedCompanyView {
+
+    private final Comparator<Company> comparator;
+    private final ObservableList<Company> sortedList = FXCollections.observableArrayList();
+    private boolean isBuilt;
+
+    SortedCompanyView(Comparator<Company> comparator) {
+        this.comparator = requireNonNull(comparator);
+    }
+
+    /**
+     * Returns true if the sorted copy has been built, so that {@link #getSortedList(List)} does not modify this view.
+     */
+    boolean isBuilt() {
+        return isBuilt;
+    }
+
+    /**
+     * Returns the companies in {@code companies} in sorted order, sorting them first if this view has not been built.
+     * {@code companies} must be the companies this view has been kept in sync with.
+     */
+    ObservableList<Company> getSortedList(List<Company> companies) {
+        if (!isBuilt) {
+            List<Company> sortedCompanies = new ArrayList<>(companies);
+            sortedCompanies.sort(comparator);
+            sortedList.setAll(sortedCompanies);
+            isBuilt = true;
+        }
+        return sortedList;
+    }
+
+    /**
+     * Inserts {@code company} at its sorted position.
+     */
+    void add(Company company) {
+        if (!isBuilt) {
+            return;
+        }
+        int index = Collections.binarySearch(sortedList, company, comparator);
+        assert index < 0 : "Company to add must not be in the sorted view";
+        sortedList.add(-index - 1, company);
+    }
+
+    /**
+     * Removes {@code company}, which must be in this view.
+     */
+    void remove(Company company) {
+        if (!isBuilt) {
+            return;
+        }
+        int index = Collections.binarySearch(sortedList, company, comparator);
+        assert index >= 0 : "Company to remove must be in the sorted view";
+        sortedList.remove(index);
+    }
+
+    /**
+     * Replaces the company in this view that is equal to {@code company} with {@code company}, in place.
+     */
+    void replace(Company company) {
+        if (!isBuilt) {
+            return;
+        }
+        int index = Collections.binarySearch(sortedList, company, comparator);
+        assert index >= 0 : "Company to replace must be in the sorted view";
+        sortedList.set(index, company);
+    }
+
+    /**
+     * Replaces the companies in this view with {@code companies}, which are the new contents of the
+     * {@code UniqueCompanyList}. A view that has not been built yet stays unbuilt.
+     */
+    void reset(List<Company> companies) {
+        if (!isBuilt) {
+            return;
+        }
+        isBuilt = false;
+        getSortedList(companies);
+    }
+
+    /**
+     * Makes this view a copy of {@code other}, which must use the same comparator.
+     */
+    void copyFrom(SortedCompanyView other) {
+        isBuilt = other.isBuilt;
+        if (isBuilt) {
+            sortedList.setAll(other.sortedList);
+        } else {
+            sortedList.clear();
+        }
+    }
+}
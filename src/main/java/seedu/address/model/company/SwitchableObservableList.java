@@ -0,0 +1,101 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only {@code ObservableList} that shows the elements of one of several source lists, and can be switched
+ * to another source list without copying or reordering any elements.
+ * Changes to the current source list are passed on to the listeners of this list, either one by one or, during a
+ * batch, merged into a single change.
+ */
+class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::sourceChanged;
+    private ObservableList<E> source;
+
+    SwitchableObservableList(ObservableList<E> source) {
+        this.source = requireNonNull(source);
+        source.addListener(sourceListener);
+    }
+
+    ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows the elements of {@code newSource} instead of the current source list.
+     * Listeners see the switch as all elements of the old source list being replaced.
+     */
+    void switchTo(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        source = newSource;
+        source.addListener(sourceListener);
+
+        if (oldSource.isEmpty() && source.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, source.size(), oldSource);
+        endChange();
+    }
+
+    /**
+     * Starts collecting the changes to this list, so that they are passed on to listeners as a single change when
+     * the matching {@link #endBatch()} is called. Batches may be nested.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, passing the collected changes on to listeners if
+     * it was the outermost batch.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
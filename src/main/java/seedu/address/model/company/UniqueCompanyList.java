@@ -3,14 +3,20 @@ package seedu.address.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.sorttype.SortType;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.company.exceptions.CompanyAlreadyMarkedException;
 import seedu.address.model.company.exceptions.CompanyAlreadyUnmarkedException;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
@@ -22,107 +28,347 @@ import seedu.address.model.company.exceptions.DuplicateCompanyException;
  * and updating of companies uses Company#isSameCompany(Company) for equality so as to ensure that the company being
  * added or updated is unique in terms of identity in the UniqueCompanyList. However, the removal of a company uses
  * Company#equals(Object) so as to ensure that the company with exactly the same fields will be removed.
+ * <p>
+ * Companies are also indexed by id, and no two companies in the list have the same id. The company given to
+ * {@link #remove(Company)}, {@link #setCompany(Company, Company)}, {@link #mark(Company)} or {@link #unmark(Company)}
+ * is resolved to the company in the list with the same id, which may be an earlier or later version of it, or if
+ * there is none, to an equal company.
  *
  * Supports a minimal set of list operations.
+ * The position of every company is also kept in a hash index alongside the observable list, so that identity checks
+ * and position lookups do not need to scan the list.
+ * <p>
+ * Companies are kept in the order they were added, and also in sorted copies by name, start date and end date that
+ * are updated on every change. Sorting the list only switches which of these orders
+ * {@link #asUnmodifiableObservableList()} shows, instead of reordering the companies.
+ * The companies to remind the user about are kept in the same way, once a reminder window has been set.
+ * <p>
+ * The companies are immutable, so they are also kept in a {@link PersistentList} without being copied, and
+ * marking a company replaces it with a marked copy. Every change replaces only O(log n) of the nodes of the
+ * persistent list, so that {@link #snapshot()} can hand the current version to other threads, or keep it to restore
+ * later, in O(1) time.
  *
  * @see Company#isSameCompany(Company)
  */
 public class UniqueCompanyList implements Iterable<Company> {
 
+    /** Orders companies that are the same in every field compared by a sort, so that sorted orders are unique. */
+    private static final Comparator<Company> TIE_BREAKER = Comparator
+            .comparing((Company company) -> company.getName().fullName)
+            .thenComparing(company -> company.getEmail().value)
+            .thenComparing(company -> company.getPhone().value, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(company -> company.getStartDate().date)
+            .thenComparing(company -> company.getEndDate().date)
+            .thenComparing(company -> company.getTags().stream()
+                    .map(tag -> tag.getTagName().toLowerCase())
+                    .sorted()
+                    .collect(Collectors.joining(",")));
+    private static final Comparator<Company> COMPARE_BY_NAME =
+            Comparator.comparing(company -> company.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+    private static final Comparator<Company> COMPARE_BY_START_DATE =
+            Comparator.comparing(company -> company.getStartDate().getDate());
+    private static final Comparator<Company> COMPARE_BY_END_DATE =
+            Comparator.comparing(company -> company.getEndDate().getDate());
+    private static final Comparator<Company> NAME_ORDER =
+            COMPARE_BY_NAME.thenComparing(COMPARE_BY_START_DATE).thenComparing(TIE_BREAKER);
+    private static final Comparator<Company> START_DATE_ORDER =
+            COMPARE_BY_START_DATE.thenComparing(COMPARE_BY_NAME).thenComparing(TIE_BREAKER);
+    private static final Comparator<Company> END_DATE_ORDER =
+            COMPARE_BY_END_DATE.thenComparing(COMPARE_BY_NAME).thenComparing(TIE_BREAKER);
+
     private final ObservableList<Company> internalList = FXCollections.observableArrayList();
+    private final SwitchableObservableList<Company> displayedList = new SwitchableObservableList<>(internalList);
     private final ObservableList<Company> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+            FXCollections.unmodifiableObservableList(displayedList);
+
+    private final SortedCompanyView byName = new SortedCompanyView(NAME_ORDER);
+    private final SortedCompanyView byStartDate = new SortedCompanyView(START_DATE_ORDER);
+    private final SortedCompanyView byEndDate = new SortedCompanyView(END_DATE_ORDER);
+    private final ReminderView reminders = new ReminderView(END_DATE_ORDER);
+    private final SwitchableObservableList<Company> reminderList =
+            new SwitchableObservableList<>(reminders.getReminders());
+    private final ObservableList<Company> unmodifiableReminders =
+            FXCollections.unmodifiableObservableList(reminderList);
+
+    /**
+     * Maps each company in {@code internalList} to its position. Must be updated on every mutation of the list, except
+     * that during a batch the positions from {@code firstStalePosition} onwards are only updated when needed.
+     */
+    private Map<Company, Integer> positions = new HashMap<>();
+
+    /** Maps the id of each company in {@code internalList} to the company. Must be updated on every mutation. */
+    private Map<Long, Company> companiesById = new HashMap<>();
+
+    /** The first position in {@code positions} that may be out of date, or {@code Integer.MAX_VALUE} if none is. */
+    private int firstStalePosition = Integer.MAX_VALUE;
+
+    /** The number of batches that have been started but not ended. */
+    private int batchDepth;
+
+    /** The order shown by {@code displayedList}, or null if it shows the companies in the order they were added. */
+    private SortType sortType;
+
+    /**
+     * The companies in {@code internalList}, in the same order. Must be updated on every mutation of the list. The
+     * nodes it shares with earlier versions are never changed.
+     */
+    private PersistentList<Company> frozenCompanies = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent company as the given argument.
      */
     public boolean contains(Company toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCompany);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the company in the list with the given {@code id}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Company> findById(long id) {
+        return Optional.ofNullable(companiesById.get(id));
     }
 
     /**
      * Adds a company to the list.
-     * The company must not already exist in the list.
+     * The company must not already exist in the list, and its id must not be the id of another company in the list.
      */
     public void add(Company toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || companiesById.containsKey(toAdd.getId())) {
             throw new DuplicateCompanyException();
         }
+        companiesById.put(toAdd.getId(), toAdd);
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
+        frozenCompanies = frozenCompanies.plus(toAdd);
+        for (SortedCompanyView view : getSortedViews()) {
+            view.add(toAdd);
+        }
+        reminders.add(toAdd);
     }
 
     /**
      * Removes the equivalent company from the list.
      * The company must exist in the list.
+     *
+     * @return the company that was removed, which is the version of {@code toRemove} in the list.
      */
-    public void remove(Company toRemove) {
+    public Company remove(Company toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new CompanyNotFoundException();
+        Company removed = resolve(toRemove);
+        int index = positionOf(removed);
+        companiesById.remove(removed.getId());
+        positions.remove(removed);
+        internalList.remove(index);
+        frozenCompanies = frozenCompanies.minus(index);
+        if (batchDepth > 0) {
+            firstStalePosition = Math.min(firstStalePosition, index);
+        } else {
+            reindexFrom(index);
         }
+        for (SortedCompanyView view : getSortedViews()) {
+            view.remove(removed);
+        }
+        reminders.remove(removed);
+        return removed;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, shown in the same order.
+     * Listeners are told about the new contents and order as one change.
+     */
     public void setCompany(UniqueCompanyList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        batch(() -> {
+            internalList.setAll(replacement.internalList);
+            frozenCompanies = replacement.frozenCompanies;
+            replacement.refreshStalePositions();
+            positions = new HashMap<>(replacement.positions);
+            companiesById = new HashMap<>(replacement.companiesById);
+            firstStalePosition = Integer.MAX_VALUE;
+            byName.copyFrom(replacement.byName);
+            byStartDate.copyFrom(replacement.byStartDate);
+            byEndDate.copyFrom(replacement.byEndDate);
+            resetReminders();
+            show(replacement.sortType);
+        });
     }
 
     /**
      * Replaces the company {@code target} in the list with {@code editedCompany}.
      * {@code target} must exist in the list.
-     * The company identity of {@code editedCompany} must not be the same as another existing company in the list.
+     * The company identity and the id of {@code editedCompany} must not be the same as those of another existing
+     * company in the list.
+     *
+     * @return the company that was replaced, which is the version of {@code target} in the list.
      */
-    public void setCompany(Company target, Company editedCompany) {
+    public Company setCompany(Company target, Company editedCompany) {
         requireAllNonNull(target, editedCompany);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new CompanyNotFoundException();
-        }
+        Company replaced = resolve(target);
+        int index = positionOf(replaced);
 
-        if (!target.isSameCompany(editedCompany) && contains(editedCompany)) {
+        Company companyWithSameId = companiesById.get(editedCompany.getId());
+        if ((!replaced.isSameCompany(editedCompany) && contains(editedCompany))
+                || (companyWithSameId != null && companyWithSameId != replaced)) {
             throw new DuplicateCompanyException();
         }
 
+        companiesById.remove(replaced.getId());
+        companiesById.put(editedCompany.getId(), editedCompany);
+        positions.remove(replaced);
+        positions.put(editedCompany, index);
         internalList.set(index, editedCompany);
+        frozenCompanies = frozenCompanies.with(index, editedCompany);
+        for (SortedCompanyView view : getSortedViews()) {
+            view.remove(replaced);
+            view.add(editedCompany);
+        }
+        reminders.remove(replaced);
+        reminders.add(editedCompany);
+        return replaced;
     }
 
     /**
      * Replaces the contents of this list with {@code companies}.
-     * {@code companies} must not contain duplicate companies.
+     * {@code companies} must not contain duplicate companies, or companies with the same id.
+     * Duplicates are detected and the new positions and ids are indexed in a single pass over {@code companies}.
      */
     public void setCompany(List<Company> companies) {
         requireAllNonNull(companies);
-        if (!companiesAreUnique(companies)) {
-            throw new DuplicateCompanyException();
-        }
+        Map<Long, Company> newCompaniesById = new HashMap<>();
+        Map<Company, Integer> newPositions = indexUniquePositions(companies, newCompaniesById);
+        replaceAll(companies, newPositions, newCompaniesById, PersistentList.of(companies));
+    }
+
+    /**
+     * Replaces the contents of this list with the companies in {@code snapshot}, shown in the order they were shown
+     * when the snapshot was taken. Listeners are told about the new contents and order as one change.
+     * The companies and the persistent list holding them are shared with {@code snapshot} rather than copied, so that
+     * later snapshots keep sharing them with {@code snapshot}.
+     */
+    public void restore(CompanyListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        PersistentList<Company> companies = snapshot.getCompaniesInOrderAdded();
+        Map<Long, Company> newCompaniesById = new HashMap<>();
+        Map<Company, Integer> newPositions = indexUniquePositions(companies, newCompaniesById);
+        batch(() -> {
+            replaceAll(companies, newPositions, newCompaniesById, companies);
+            show(snapshot.getSortType());
+        });
+    }
 
+    /**
+     * Replaces the contents of this list with {@code companies}, which are at {@code newPositions}, have the ids in
+     * {@code newCompaniesById} and are also held by {@code frozen}.
+     */
+    private void replaceAll(List<Company> companies, Map<Company, Integer> newPositions,
+            Map<Long, Company> newCompaniesById, PersistentList<Company> frozen) {
         internalList.setAll(companies);
+        frozenCompanies = frozen;
+        positions = newPositions;
+        companiesById = newCompaniesById;
+        firstStalePosition = Integer.MAX_VALUE;
+        for (SortedCompanyView view : getSortedViews()) {
+            view.reset(internalList);
+        }
+        resetReminders();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Runs {@code mutations}, which may change this list in any way, as one change. Listeners of the lists returned
+     * by {@link #asUnmodifiableObservableList()} and {@link #asUnmodifiableLiveReminderList()} are told about all of
+     * the changes at once, after {@code mutations} returns. Removing companies from the end of the list towards the
+     * start also avoids recomputing the positions of the companies after each removed one. Batches may be nested.
+     */
+    public void batch(Runnable mutations) {
+        requireNonNull(mutations);
+        displayedList.beginBatch();
+        reminderList.beginBatch();
+        batchDepth++;
+        try {
+            mutations.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                refreshStalePositions();
+            }
+            reminderList.endBatch();
+            displayedList.endBatch();
+        }
+    }
+
+    /**
+     * Returns the companies as an unmodifiable {@code ObservableList}, in the order given by the last sort.
+     * The same list is returned every time, and it is updated when the list is sorted again.
      */
     public ObservableList<Company> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
     /**
-     * Returns the reminder list as an unmodifiable {@code ObservabeList}
+     * Returns the reminder list as of {@code today} as an unmodifiable {@code ObservabeList}, in order of end date.
+     * Only the companies ending between {@code today} and the last day to remind about are looked at, which are
+     * found by binary search in the companies sorted by end date. The returned list is not kept up to date.
      */
-    public ObservableList<Company> asUnmodifiableReminderList(ReminderSettings reminderSettings) {
-        long numOfDays = reminderSettings.getNumOfDays();
-        List<Company> filteredList = internalList.stream()
-                .filter(company-> company.toRemind(numOfDays))
-                .collect(Collectors.toList());
+    public ObservableList<Company> asUnmodifiableReminderList(ReminderSettings reminderSettings, LocalDate today) {
+        requireAllNonNull(reminderSettings, today);
+        List<Company> filteredList = ReminderView.findReminders(byEndDate.getSortedList(internalList),
+                reminderSettings.getNumOfDays(), today);
         return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(filteredList));
     }
 
+    /**
+     * Returns an immutable copy of this list, which other threads can read while this list is being changed, and
+     * which {@link #restore(CompanyListSnapshot)} can bring back later. Takes O(1) time, as it shares the
+     * persistent list of the companies kept alongside the list. The companies are only sorted in the order they are
+     * shown when the snapshot is first read.
+     * <p>
+     * Only reads two fields, which refer to objects that are never changed, so it can be called by another thread
+     * while this list is being changed, as long as the result is discarded if a change was made at the same time.
+     */
+    public CompanyListSnapshot snapshot() {
+        return new CompanyListSnapshot(frozenCompanies, sortType);
+    }
+
+    /**
+     * Returns the companies to remind the user about in the window last set by
+     * {@link #setReminderWindow(ReminderSettings, LocalDate)}, in order of end date, as an unmodifiable
+     * {@code ObservableList}. The same list is returned every time, and it is updated on every change to this list.
+     * It is empty until a reminder window is set.
+     */
+    public ObservableList<Company> asUnmodifiableLiveReminderList() {
+        return unmodifiableReminders;
+    }
+
+    /**
+     * Makes the list returned by {@link #asUnmodifiableLiveReminderList()} show the companies to remind about as of
+     * {@code today} with {@code reminderSettings}.
+     */
+    public void setReminderWindow(ReminderSettings reminderSettings, LocalDate today) {
+        requireAllNonNull(reminderSettings, today);
+        reminders.setWindow(reminderSettings.getNumOfDays(), today, byEndDate.getSortedList(internalList));
+    }
+
+    /**
+     * Returns the first day after the date of the last reminder window on which the live reminder list would change
+     * because of the date alone, or an empty {@code Optional} if it never would or no window has been set.
+     */
+    public Optional<LocalDate> getNextReminderChangeDate() {
+        return reminders.getNextChangeDate();
+    }
+
+    /**
+     * Returns the order the companies are shown in, or null if they are shown in the order they were added.
+     */
+    public SortType getSortType() {
+        return sortType;
+    }
+
     @Override
     public Iterator<Company> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -137,86 +383,219 @@ public class UniqueCompanyList implements Iterable<Company> {
         }
 
         UniqueCompanyList otherUniqueCompanyList = (UniqueCompanyList) other;
-        return internalList.equals(otherUniqueCompanyList.internalList);
+        return internalUnmodifiableList.equals(otherUniqueCompanyList.internalUnmodifiableList);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalUnmodifiableList.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return internalUnmodifiableList.toString();
     }
 
     /**
-     * Returns true if {@code companies} contains only unique companies.
+     * Returns a map from each company in {@code companies} to its position in {@code companies}, and puts each of
+     * them into {@code companiesById} under its id.
+     *
+     * @throws DuplicateCompanyException if {@code companies} contains duplicate companies or companies with the same
+     *     id.
      */
-    private boolean companiesAreUnique(List<Company> companies) {
-        for (int i = 0; i < companies.size() - 1; i++) {
-            for (int j = i + 1; j < companies.size(); j++) {
-                if (companies.get(i).isSameCompany(companies.get(j))) {
-                    return false;
-                }
+    private static Map<Company, Integer> indexUniquePositions(List<Company> companies,
+            Map<Long, Company> companiesById) {
+        Map<Company, Integer> companyPositions = new HashMap<>(Math.max(16, companies.size() * 4 / 3 + 1));
+        int index = 0;
+        for (Company company : companies) {
+            if (companyPositions.putIfAbsent(requireNonNull(company), index++) != null
+                    || companiesById.putIfAbsent(company.getId(), company) != null) {
+                throw new DuplicateCompanyException();
             }
         }
-        return true;
+        return companyPositions;
     }
 
     /**
-     * Sorts the list of companies by their name in ascending order, and then by their start date in ascending order.
+     * Returns the company in the list with the same id as {@code company}, or if there is none, the company in the
+     * list equal to {@code company}.
+     *
+     * @throws CompanyNotFoundException if there is no such company.
      */
-    public void sortCompanyListByName() {
-        Comparator<Company> compareByName = Comparator.comparing(company -> company.getName().fullName.toLowerCase());
-        Comparator<Company> compareByStartDate = Comparator.comparing(company -> company.getStartDate().getDate());
-        FXCollections.sort(internalList, compareByName.thenComparing(compareByStartDate));
+    private Company resolve(Company company) {
+        Company resolved = companiesById.get(company.getId());
+        if (resolved != null) {
+            return resolved;
+        }
+        Integer index = positionOf(company);
+        if (index == null) {
+            throw new CompanyNotFoundException();
+        }
+        return internalList.get(index);
     }
 
     /**
-     * Sorts the list of companies by their start date in ascending order, and then by their name in ascending order.
+     * Returns the position of {@code company} in {@code internalList}, or null if it is not in the list.
+     * Stale positions are recomputed first if the position of {@code company} may be one of them.
      */
-    public void sortCompanyListByStartDate() {
-        Comparator<Company> compareByStartDate = Comparator.comparing(company -> company.getStartDate().getDate());
-        Comparator<Company> compareByName = Comparator.comparing(company -> company.getName().fullName.toLowerCase());
-        FXCollections.sort(internalList, compareByStartDate.thenComparing(compareByName));
+    private Integer positionOf(Company company) {
+        Integer index = positions.get(company);
+        if (index != null && index >= firstStalePosition) {
+            refreshStalePositions();
+            index = positions.get(company);
+        }
+        return index;
+    }
+
+    private void refreshStalePositions() {
+        if (firstStalePosition < Integer.MAX_VALUE) {
+            int fromIndex = firstStalePosition;
+            firstStalePosition = Integer.MAX_VALUE;
+            reindexFrom(fromIndex);
+        }
     }
 
     /**
-     * Sorts the list of companies by their name in ascending order, and then by their start date in ascending order.
+     * Recomputes the positions of all companies in {@code internalList} from {@code fromIndex} onwards.
+     * Must be called after any mutation that shifts or reorders the list.
      */
-    public void sortCompanyListByEndDate() {
-        Comparator<Company> compareByStartDate = Comparator.comparing(company -> company.getEndDate().getDate());
-        Comparator<Company> compareByName = Comparator.comparing(company -> company.getName().fullName.toLowerCase());
-        FXCollections.sort(internalList, compareByStartDate.thenComparing(compareByName));
+    private void reindexFrom(int fromIndex) {
+        if (fromIndex == 0) {
+            positions.clear();
+        }
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
     }
 
     /**
-     * Marks the given company as applied.
+     * Shows the companies by their name in ascending order, and then by their start date in ascending order.
+     *
+     * @return true if the companies were shown in a different order before.
      */
-    public void mark(Company target) {
+    public boolean sortCompanyListByName() {
+        return show(SortType.ALPHANUMERICAL_ASCENDING);
+    }
+
+    /**
+     * Shows the companies by their start date in ascending order, and then by their name in ascending order.
+     *
+     * @return true if the companies were shown in a different order before.
+     */
+    public boolean sortCompanyListByStartDate() {
+        return show(SortType.STARTDATE_ASCENDING);
+    }
+
+    /**
+     * Shows the companies by their end date in ascending order, and then by their name in ascending order.
+     *
+     * @return true if the companies were shown in a different order before.
+     */
+    public boolean sortCompanyListByEndDate() {
+        return show(SortType.ENDDATE_ASCENDING);
+    }
+
+    /**
+     * Switches {@code displayedList} to the order given by {@code sortType}, or to the order the companies were added
+     * in if {@code sortType} is null. The sorted view for {@code sortType} is built the first time it is shown.
+     *
+     * @return true if {@code displayedList} showed a different order before.
+     */
+    private boolean show(SortType sortType) {
+        if (sortType == this.sortType) {
+            return false;
+        }
+        this.sortType = sortType;
+        displayedList.switchTo(sortType == null ? internalList : getSortedView(sortType).getSortedList(internalList));
+        return true;
+    }
+
+    /**
+     * Returns the order of the companies shown when the list is sorted as given by {@code sortType}.
+     */
+    static Comparator<Company> getOrder(SortType sortType) {
+        switch (sortType) {
+        case ALPHANUMERICAL_ASCENDING:
+            return NAME_ORDER;
+        case STARTDATE_ASCENDING:
+            return START_DATE_ORDER;
+        case ENDDATE_ASCENDING:
+            return END_DATE_ORDER;
+        default:
+            throw new AssertionError("Unknown sort type " + sortType);
+        }
+    }
+
+    private SortedCompanyView getSortedView(SortType sortType) {
+        switch (sortType) {
+        case ALPHANUMERICAL_ASCENDING:
+            return byName;
+        case STARTDATE_ASCENDING:
+            return byStartDate;
+        case ENDDATE_ASCENDING:
+            return byEndDate;
+        default:
+            throw new AssertionError("Unknown sort type " + sortType);
+        }
+    }
+
+    private void resetReminders() {
+        if (reminders.hasWindow()) {
+            reminders.reset(byEndDate.getSortedList(internalList));
+        }
+    }
+
+    private List<SortedCompanyView> getSortedViews() {
+        return List.of(byName, byStartDate, byEndDate);
+    }
+
+    /**
+     * Marks the given company as applied, by replacing it with a marked copy.
+     *
+     * @return the marked company now in the list.
+     */
+    public Company mark(Company target) {
         requireNonNull(target);
-        if (!internalList.contains(target)) {
-            throw new CompanyNotFoundException();
-        } else if (target.isMarked()) {
+        Company company = resolve(target);
+        if (company.isMarked()) {
             throw new CompanyAlreadyMarkedException();
-        } else {
-            target.mark();
         }
+        return replaceWithMarked(company, true);
     }
 
     /**
-     * Unmarks the given company as applied.
+     * Unmarks the given company as applied, by replacing it with an unmarked copy.
+     *
+     * @return the unmarked company now in the list.
      */
-    public void unmark(Company target) {
+    public Company unmark(Company target) {
         requireNonNull(target);
-        if (!internalList.contains(target)) {
-            throw new CompanyNotFoundException();
-        } else if (!target.isMarked()) {
+        Company company = resolve(target);
+        if (!company.isMarked()) {
             throw new CompanyAlreadyUnmarkedException();
-        } else {
-            target.unmark();
         }
+        return replaceWithMarked(company, false);
+    }
+
+    /**
+     * Replaces {@code company}, which is in the list, with a copy that is marked if {@code isMarked}. The copy is
+     * equal to {@code company} and sorted at the same position, so only the reminder view changes its order.
+     */
+    private Company replaceWithMarked(Company company, boolean isMarked) {
+        Company replacement = company.withMarked(isMarked);
+        int index = positionOf(company);
+        // remove before putting, as putting an equal key would keep the earlier company as the key
+        positions.remove(company);
+        positions.put(replacement, index);
+        companiesById.put(replacement.getId(), replacement);
+        internalList.set(index, replacement);
+        frozenCompanies = frozenCompanies.with(index, replacement);
+        for (SortedCompanyView view : getSortedViews()) {
+            view.replace(replacement);
+        }
+        reminders.remove(company);
+        reminders.add(replacement);
+        return replacement;
     }
 
     /**
@@ -224,10 +603,6 @@ public class UniqueCompanyList implements Iterable<Company> {
      */
     public boolean isMarked(Company target) {
         requireNonNull(target);
-        if (!internalList.contains(target)) {
-            throw new CompanyNotFoundException();
-        } else {
-            return target.isMarked();
-        }
+        return resolve(target).isMarked();
     }
 }
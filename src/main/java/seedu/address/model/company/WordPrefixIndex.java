@@ -0,0 +1,113 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A sorted dictionary of the words in the names and tags of a set of companies, used to find the companies matched
+ * by a {@link NameContainsKeywordsPredicate} without testing every company.
+ * <p>
+ * Every name and tag is indexed both as a whole and word by word, lower-cased in the same way as
+ * {@link seedu.address.commons.util.StringUtil#containsStartSubstringIgnoreCase(String, String)}. The companies
+ * matching a keyword are then the companies of every term that starts with the keyword, which are next to each
+ * other in the dictionary.
+ */
+public class WordPrefixIndex {
+
+    private final TreeMap<String, Set<Company>> companiesByTerm = new TreeMap<>();
+
+    /**
+     * Adds the names and tags of {@code company} to the index.
+     */
+    public void add(Company company) {
+        requireNonNull(company);
+        for (String term : getTerms(company)) {
+            companiesByTerm.computeIfAbsent(term, unused -> new HashSet<>()).add(company);
+        }
+    }
+
+    /**
+     * Removes {@code company} from the index.
+     */
+    public void remove(Company company) {
+        requireNonNull(company);
+        for (String term : getTerms(company)) {
+            Set<Company> companies = companiesByTerm.get(term);
+            if (companies != null && companies.remove(company) && companies.isEmpty()) {
+                companiesByTerm.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Removes all companies from the index.
+     */
+    public void clear() {
+        companiesByTerm.clear();
+    }
+
+    /**
+     * Returns the companies in the index that a {@code NameContainsKeywordsPredicate} for {@code keyword} accepts.
+     * The returned set compares companies by reference, so that checking whether a company of the indexed list is
+     * in it does not need to hash the company's fields.
+     *
+     * @throws IllegalArgumentException if {@code keyword} is blank.
+     */
+    public Set<Company> find(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim();
+        checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+        String prefix = preppedKeyword.toLowerCase();
+
+        Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, Set<Company>> entry : companiesByTerm.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            matches.addAll(entry.getValue());
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the lower-cased names, tags and words in them that {@code company} is indexed under. A keyword matches
+     * {@code company} if one of these terms starts with the lower-cased keyword.
+     */
+    public static Set<String> getTerms(Company company) {
+        Set<String> terms = new HashSet<>();
+        addTerms(company.getName().fullName, terms);
+        for (Tag tag : company.getTags()) {
+            addTerms(tag.getTagName(), terms);
+        }
+        return terms;
+    }
+
+    private static void addTerms(String sentence, Set<String> terms) {
+        String preppedSentence = sentence.trim().toLowerCase();
+        terms.add(preppedSentence);
+        // Splits at runs of the whitespace matched by the regex \s, without compiling a regex for every sentence
+        int wordStart = -1;
+        for (int i = 0; i <= preppedSentence.length(); i++) {
+            boolean isWhitespace = i == preppedSentence.length() || isRegexWhitespace(preppedSentence.charAt(i));
+            if (isWhitespace && wordStart >= 0) {
+                terms.add(preppedSentence.substring(wordStart, i));
+                wordStart = -1;
+            } else if (!isWhitespace && wordStart < 0) {
+                wordStart = i;
+            }
+        }
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model.util;
 
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,6 +20,12 @@ import seedu.address.model.tag.Tag;
  * Contains utility methods for populating {@code AddressBook} with sample data.
  */
 public class SampleDataUtil {
+    private static final String[] SYNTHETIC_NAMES = {"Apple", "Amazon", "DBS", "Google", "Meta", "OCBC", "Grab",
+        "Shopee", "Stripe", "Sea"};
+    private static final String[] SYNTHETIC_NAME_SUFFIXES = {"Labs", "Technologies", "Systems", "Capital", "Digital"};
+    private static final String[] SYNTHETIC_TAGS = {"software engineer", "frontend developer", "backend developer",
+        "security engineer", "data analyst", "product manager", "ui designer"};
+
     public static Company[] getSampleCompanies() {
         return new Company[] {
             new Company(new Name("Apple"), new Phone("87438807"), new Email("apple@example.com"), new Date(),
@@ -42,6 +51,55 @@ public class SampleDataUtil {
         return sampleAb;
     }
 
+    /**
+     * Returns a synthetic company that is unique to {@code index}, for filling an intern book with realistic
+     * amounts of data. The same {@code index} always gives the same company on the same day.
+     * <p>
+     * Most companies have a phone number, application dates within a few months of today and one to three tags.
+     * Every fifth company has no phone number, every tenth has no dates and every fourth is marked as applied.
+     */
+    public static Company getSyntheticCompany(int index) {
+        Random random = new Random(index);
+        String name = SYNTHETIC_NAMES[random.nextInt(SYNTHETIC_NAMES.length)];
+        String suffix = SYNTHETIC_NAME_SUFFIXES[random.nextInt(SYNTHETIC_NAME_SUFFIXES.length)];
+
+        Phone phone = index % 5 == 4
+                ? Phone.getDefaultPhone()
+                : new Phone(String.valueOf(80000000 + random.nextInt(20000000)));
+        Email email = new Email(name.toLowerCase() + index + "@example.com");
+
+        Date startDate = new Date();
+        Date endDate = new Date();
+        if (index % 10 != 9) {
+            LocalDate start = LocalDate.now().minusDays(90).plusDays(random.nextInt(365));
+            startDate = Date.of(start);
+            endDate = Date.of(start.plusDays(7 + random.nextInt(120)));
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = 1 + random.nextInt(3);
+        while (tags.size() < tagCount) {
+            tags.add(new Tag(SYNTHETIC_TAGS[random.nextInt(SYNTHETIC_TAGS.length)]));
+        }
+
+        Company company = new Company(new Name(name + " " + suffix + " " + index), phone, email, startDate, endDate,
+                tags);
+        return company.withMarked(index % 4 == 3);
+    }
+
+    /**
+     * Returns an intern book holding the synthetic companies with indices {@code 0} to {@code size - 1}.
+     *
+     * @see #getSyntheticCompany(int)
+     */
+    public static InternBook getSyntheticInternBook(int size) {
+        InternBook internBook = new InternBook();
+        for (int i = 0; i < size; i++) {
+            internBook.addCompany(getSyntheticCompany(i));
+        }
+        return internBook;
+    }
+
     /**
      * Returns a tag set containing the list of strings given.
      */
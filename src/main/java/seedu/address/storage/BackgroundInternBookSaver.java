@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveSettings;
+import seedu.address.model.InternBook;
+import seedu.address.model.ReadOnlyInternBook;
+
+/**
+ * Saves snapshots of an intern book to an {@code InternBookStorage} on a single background thread.
+ * A burst of submissions is coalesced into one write of the latest snapshot, which happens once no new snapshot
+ * has been submitted for the debounce interval, or once the oldest unsaved change has waited for the maximum delay.
+ */
+public class BackgroundInternBookSaver implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundInternBookSaver.class);
+
+    private final InternBookStorage storage;
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService writer;
+    private volatile Consumer<IOException> errorHandler = e -> {};
+
+    // All fields below are guarded by this object's lock
+    private ReadOnlyInternBook pending;
+    private long pendingSinceNanos;
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * Creates a {@code BackgroundInternBookSaver} that writes to {@code storage} according to {@code saveSettings}.
+     */
+    public BackgroundInternBookSaver(InternBookStorage storage, SaveSettings saveSettings) {
+        requireNonNull(storage);
+        requireNonNull(saveSettings);
+        this.storage = storage;
+        debounceNanos = TimeUnit.MILLISECONDS.toNanos(saveSettings.getDebounceMillis());
+        maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(saveSettings.getMaxDelayMillis());
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "intern-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called on the background thread whenever a write fails.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Takes a snapshot of {@code internBook} and schedules it to be saved, replacing any snapshot not yet saved.
+     * Must be called on the thread that modifies {@code internBook}. The snapshot of an {@code InternBook} takes
+     * O(1) time, as it shares the frozen copies of the companies that the intern book keeps.
+     */
+    public void submit(ReadOnlyInternBook internBook) {
+        ReadOnlyInternBook snapshot = internBook instanceof InternBook
+                ? ((InternBook) internBook).snapshot()
+                : InternBook.snapshotOf(internBook);
+        long now = System.nanoTime();
+
+        synchronized (this) {
+            if (pending == null) {
+                pendingSinceNanos = now;
+            }
+            pending = snapshot;
+
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+            long delayNanos = Math.max(0, Math.min(debounceNanos, pendingSinceNanos + maxDelayNanos - now));
+            scheduledWrite = writer.schedule(this::writePendingReportingErrors, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Saves the latest submitted snapshot, if any, and waits until it has been written.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                writePending();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data file", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Flushes the latest submitted snapshot and stops the background thread.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writePendingReportingErrors() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save data file in the background: " + e.getMessage());
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot. If the write fails and nothing newer has been submitted in the meantime,
+     * the snapshot is kept so that a later flush can retry it.
+     */
+    private void writePending() throws IOException {
+        ReadOnlyInternBook toSave;
+        long toSaveSinceNanos;
+        synchronized (this) {
+            toSave = pending;
+            toSaveSinceNanos = pendingSinceNanos;
+            pending = null;
+        }
+        if (toSave == null) {
+            return;
+        }
+
+        try {
+            storage.saveInternBook(toSave);
+        } catch (IOException e) {
+            synchronized (this) {
+                if (pending == null) {
+                    pending = toSave;
+                    pendingSinceNanos = toSaveSinceNanos;
+                }
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.durability.Durability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.InternBook;
+import seedu.address.model.ReadOnlyInternBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Date;
+import seedu.address.model.company.Email;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.Phone;
+import seedu.address.model.company.exceptions.DuplicateCompanyException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access InternBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a major and minor format version, followed by a dictionary of every
+ * distinct tag name and then the companies. Each company is a record prefixed with its length in bytes. A later minor
+ * version of the format may only add fields to the end of each record, which readers of earlier minor versions skip,
+ * so they read files of any minor version with the same major version. Dates are stored as epoch days and tags as
+ * indices into the dictionary.
+ * The id of each company is the last field of its record, so records written before companies had ids end without
+ * one, and those companies are given new ids when read.
+ */
+public class BinaryInternBookStorage implements InternBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final int MAGIC = 0x494e5442; // "INTB"
+    static final int FORMAT_MAJOR_VERSION = 0;
+    static final int FORMAT_MINOR_VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_DATA = "File is not a binary InternBook data file";
+    static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Binary data file version %d.%d is newer than supported version %d.%d";
+    static final String MESSAGE_DUPLICATE_COMPANY = "Companies list contains duplicate company(s).";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryInternBookStorage.class);
+
+    private final Path filePath;
+    private final Durability durability;
+
+    public BinaryInternBookStorage(Path filePath) {
+        this(filePath, Durability.DATA);
+    }
+
+    /**
+     * Creates a {@code BinaryInternBookStorage} for {@code filePath}.
+     *
+     * @param durability what each save forces to the storage device before returning.
+     */
+    public BinaryInternBookStorage(Path filePath, Durability durability) {
+        this.filePath = filePath;
+        this.durability = durability;
+    }
+
+    public Path getInternBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file kept in place of the data file at {@code filePath}, which is
+     * {@code filePath} with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyInternBook> readInternBook() throws DataLoadingException {
+        return readInternBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyInternBook> readInternBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(read(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveInternBook(ReadOnlyInternBook internBook) throws IOException {
+        saveInternBook(internBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternBook(ReadOnlyInternBook)}.
+     * The file is replaced atomically so that a failed save leaves the previous data intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveInternBook(ReadOnlyInternBook internBook, Path filePath) throws IOException {
+        requireNonNull(internBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, durability, out -> {
+            try (DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out))) {
+                write(internBook, dataOut);
+            }
+        });
+    }
+
+    private static void write(ReadOnlyInternBook internBook, DataOutputStream out) throws IOException {
+        Map<Tag, Integer> tagIndices = new HashMap<>();
+        List<String> tagNames = new ArrayList<>();
+        for (Company company : internBook.getCompanyList()) {
+            for (Tag tag : company.getTags()) {
+                if (!tagIndices.containsKey(tag)) {
+                    tagIndices.put(tag, tagNames.size());
+                    tagNames.add(tag.getTagName());
+                }
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_MAJOR_VERSION);
+        out.writeShort(FORMAT_MINOR_VERSION);
+        out.writeInt(tagNames.size());
+        for (String tagName : tagNames) {
+            out.writeUTF(tagName);
+        }
+
+        out.writeInt(internBook.getCompanyList().size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Company company : internBook.getCompanyList()) {
+            recordBytes.reset();
+            writeCompany(company, tagIndices, record);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static void writeCompany(Company company, Map<Tag, Integer> tagIndices, DataOutputStream out)
+            throws IOException {
+        out.writeUTF(company.getName().fullName);
+        out.writeBoolean(company.getPhone().isPhonePresent());
+        if (company.getPhone().isPhonePresent()) {
+            out.writeUTF(company.getPhone().value);
+        }
+        out.writeUTF(company.getEmail().value);
+        out.writeLong(company.getStartDate().date.toEpochDay());
+        out.writeLong(company.getEndDate().date.toEpochDay());
+        out.writeBoolean(company.isMarked());
+        out.writeInt(company.getTags().size());
+        for (Tag tag : company.getTags()) {
+            out.writeInt(tagIndices.get(tag));
+        }
+        out.writeLong(company.getId());
+    }
+
+    private static InternBook read(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA);
+        }
+        int majorVersion = in.readUnsignedShort();
+        int minorVersion = in.readUnsignedShort();
+        if (majorVersion > FORMAT_MAJOR_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, majorVersion, minorVersion,
+                    FORMAT_MAJOR_VERSION, FORMAT_MINOR_VERSION));
+        }
+
+        int tagCount = in.readInt();
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = in.readUTF();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int companyCount = in.readInt();
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < companyCount; i++) {
+            int recordLength = in.readInt();
+            if (recordLength < 0) {
+                throw new EOFException("Invalid company record length " + recordLength);
+            }
+            byte[] record = new byte[recordLength];
+            in.readFully(record);
+            companies.add(readCompany(new DataInputStream(new ByteArrayInputStream(record)), tags));
+        }
+
+        InternBook internBook = new InternBook();
+        try {
+            internBook.setCompanies(companies);
+        } catch (DuplicateCompanyException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_COMPANY);
+        }
+        return internBook;
+    }
+
+    /**
+     * Reads one company record. Any bytes after the fields known to this version of the format are ignored.
+     */
+    private static Company readCompany(DataInputStream in, List<Tag> tags) throws IOException, IllegalValueException {
+        String name = in.readUTF();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        Phone phone = Phone.getDefaultPhone();
+        if (in.readBoolean()) {
+            String phoneValue = in.readUTF();
+            if (!Phone.isValidPhone(phoneValue)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            phone = new Phone(phoneValue);
+        }
+
+        String email = in.readUTF();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+
+        Date startDate = readDate(in);
+        Date endDate = readDate(in);
+        boolean isMarked = in.readBoolean();
+
+        int tagCount = in.readInt();
+        Set<Tag> companyTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.readInt();
+            if (tagIndex < 0 || tagIndex >= tags.size()) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            companyTags.add(tags.get(tagIndex));
+        }
+
+        if (in.available() >= Long.BYTES) {
+            long id = in.readLong();
+            if (!Company.isValidId(id)) {
+                throw new IllegalValueException(Company.MESSAGE_ID_CONSTRAINTS);
+            }
+            return new Company(id, new Name(name), phone, new Email(email), startDate, endDate, companyTags, isMarked);
+        }
+        return new Company(new Name(name), phone, new Email(email), startDate, endDate, companyTags)
+                .withMarked(isMarked);
+    }
+
+    private static Date readDate(DataInputStream in) throws IOException, IllegalValueException {
+        long epochDay = in.readLong();
+        if (epochDay < LocalDate.MIN.toEpochDay() || epochDay > LocalDate.MAX.toEpochDay()) {
+            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+        }
+        return Date.of(LocalDate.ofEpochDay(epochDay));
+    }
+}
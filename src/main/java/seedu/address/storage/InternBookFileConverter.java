@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyInternBook;
+
+/**
+ * Converts InternBook data files between the JSON and binary formats.
+ */
+public class InternBookFileConverter {
+
+    public static final String TO_BINARY = "to-binary";
+    public static final String TO_JSON = "to-json";
+    public static final String MESSAGE_USAGE = "Usage: InternBookFileConverter (" + TO_BINARY + "|" + TO_JSON + ")"
+            + " SOURCE_FILE TARGET_FILE";
+
+    /**
+     * Reads the data in {@code source} and saves it to {@code target}.
+     *
+     * @return false if {@code source} has no data file, in which case {@code target} is left unchanged.
+     * @throws DataLoadingException if the data in {@code source} could not be read.
+     * @throws IOException if the data could not be saved to {@code target}.
+     */
+    public static boolean convert(InternBookStorage source, InternBookStorage target)
+            throws DataLoadingException, IOException {
+        Optional<ReadOnlyInternBook> data = source.readInternBook();
+        if (!data.isPresent()) {
+            return false;
+        }
+        target.saveInternBook(data.get());
+        return true;
+    }
+
+    /**
+     * Converts the data file given on the command line, see {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3 || !(TO_BINARY.equals(args[0]) || TO_JSON.equals(args[0]))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path sourcePath = Paths.get(args[1]);
+        Path targetPath = Paths.get(args[2]);
+        boolean isToBinary = TO_BINARY.equals(args[0]);
+        InternBookStorage source = isToBinary
+                ? new JsonInternBookStorage(sourcePath)
+                : new BinaryInternBookStorage(sourcePath);
+        InternBookStorage target = isToBinary
+                ? new BinaryInternBookStorage(targetPath)
+                : new JsonInternBookStorage(targetPath);
+
+        try {
+            if (!convert(source, target)) {
+                System.err.println("Data file not found: " + sourcePath);
+                System.exit(1);
+            }
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert " + sourcePath + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.durability.Durability;
+import seedu.address.commons.core.sorttype.SortType;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.InternBook;
+import seedu.address.model.InternBookChange;
+import seedu.address.model.ReadOnlyInternBook;
+
+/**
+ * A class to access InternBook data stored as a json snapshot plus a journal of later changes.
+ * Each save appends a record of each {@link InternBookChange} made since the last save to the journal, which lives
+ * next to the data file. Once the journal grows past a size threshold, or when the changes since the last save are
+ * not known (e.g. the data was replaced as a whole), it is compacted by rewriting the data file in full and starting
+ * an empty journal.
+ */
+public class JournaledInternBookStorage implements InternBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledInternBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final long compactionThresholdBytes;
+    private final Durability durability;
+
+    // The last change in the data in filePath and its journal, or null if the data has not been read or saved yet
+    private InternBookChange lastSavedChange;
+    // How the data was sorted when the data file was written, which a new journal sorts it by again
+    private SortType snapshotSortType;
+    private long snapshotChecksum;
+    private long journalSize;
+
+    public JournaledInternBookStorage(Path filePath) {
+        this(filePath, false, DEFAULT_COMPACTION_THRESHOLD_BYTES, Durability.DATA);
+    }
+
+    /**
+     * Creates a {@code JournaledInternBookStorage} for {@code filePath}.
+     *
+     * @param isCompact whether the data file should be written without indentation or line breaks.
+     * @param compactionThresholdBytes size the journal may reach before it is compacted into the data file.
+     * @param durability what each save forces to the storage device before returning.
+     */
+    public JournaledInternBookStorage(Path filePath, boolean isCompact, long compactionThresholdBytes,
+                                      Durability durability) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.durability = durability;
+    }
+
+    public Path getInternBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyInternBook> readInternBook() throws DataLoadingException {
+        return readInternBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternBook()}.
+     * The data file is read first and the changes in its journal, if any, are then applied to it in order.
+     * A journal that was started on a different version of the data file is ignored, and a partially written
+     * last record is discarded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyInternBook> readInternBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            InternBook internBook = JsonInternBookReader.read(filePath);
+            long checksum = checksumOf(filePath);
+            long replayedJournalSize = replayJournal(getJournalFilePath(filePath), checksum, internBook);
+
+            if (filePath.equals(this.filePath)) {
+                lastSavedChange = internBook.getLastChange();
+                snapshotSortType = null;
+                snapshotChecksum = checksum;
+                journalSize = replayedJournalSize;
+            }
+            return Optional.of(internBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveInternBook(ReadOnlyInternBook internBook) throws IOException {
+        saveInternBook(internBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternBook(ReadOnlyInternBook)}.
+     * Only saves to this storage's own data file are journaled; saves to any other path write a full data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveInternBook(ReadOnlyInternBook internBook, Path filePath) throws IOException {
+        requireNonNull(internBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createParentDirsOfFile(filePath);
+            JsonInternBookWriter.write(internBook, filePath, isCompact, durability);
+            return;
+        }
+
+        Optional<List<InternBookChange>> changes = lastSavedChange == null
+                ? Optional.empty()
+                : internBook.getLastChange().getChangesSince(lastSavedChange);
+        if (changes.isEmpty()) {
+            compact(internBook);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (journalSize == 0) {
+            // A new journal is tied to the current data file. The data file holds the companies in the order they
+            // were shown but is read back unsorted, and companies added later must be inserted at their sorted
+            // position when the journal is replayed, so the journal sorts them again first.
+            records.add(JsonAdaptedJournalRecord.base(snapshotChecksum));
+            if (snapshotSortType != null) {
+                records.add(JsonAdaptedJournalRecord.sort(snapshotSortType));
+            }
+        }
+        for (InternBookChange change : changes.get()) {
+            records.add(JsonAdaptedJournalRecord.of(change));
+        }
+        byte[] bytes = toJsonLines(records);
+        if (journalSize + bytes.length > compactionThresholdBytes) {
+            compact(internBook);
+            return;
+        }
+
+        try {
+            append(bytes);
+        } catch (IOException ioe) {
+            // The journal may hold only some of the records, so the next save starts over from a full data file
+            lastSavedChange = null;
+            throw ioe;
+        }
+        lastSavedChange = internBook.getLastChange();
+    }
+
+    /**
+     * Rewrites the data file with {@code internBook} and discards the journal.
+     */
+    private void compact(ReadOnlyInternBook internBook) throws IOException {
+        logger.fine("Compacting journal into data file: " + filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+
+        CRC32 crc = new CRC32();
+        FileUtil.writeAtomically(filePath, durability, out ->
+                JsonInternBookWriter.write(internBook, new CheckedOutputStream(out, crc), isCompact));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        lastSavedChange = internBook.getLastChange();
+        snapshotSortType = internBook.getSortType();
+        snapshotChecksum = crc.getValue();
+        journalSize = 0;
+    }
+
+    /**
+     * Appends {@code bytes} to the journal with a single write, and forces them to the disk as far as the durability
+     * level asks for before returning. A new journal is started if it is empty, which {@code bytes} must then start
+     * with the base record of.
+     */
+    private void append(byte[] bytes) throws IOException {
+        boolean isNewJournal = journalSize == 0;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        StandardOpenOption mode = isNewJournal ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (durability != Durability.NONE) {
+                channel.force(durability == Durability.FULL);
+            }
+        }
+        if (isNewJournal && durability == Durability.FULL) {
+            FileUtil.forceDirectory(getJournalFilePath(filePath).toAbsolutePath().getParent());
+        }
+        journalSize += bytes.length;
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code internBook}.
+     *
+     * @return the size in bytes of the part of the journal that was applied, or 0 if there is no usable journal.
+     */
+    private static long replayJournal(Path journalPath, long snapshotChecksum, InternBook internBook)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        byte[] bytes = Files.readAllBytes(journalPath);
+        int lineStart = 0;
+        boolean isFirstLine = true;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(
+                    new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8),
+                    JsonAdaptedJournalRecord.class);
+            lineStart = i + 1;
+
+            if (isFirstLine) {
+                if (!record.isBase() || record.getChecksum() == null || record.getChecksum() != snapshotChecksum) {
+                    logger.info("Ignoring journal " + journalPath + " that does not belong to the current data file");
+                    return 0;
+                }
+                isFirstLine = false;
+                continue;
+            }
+
+            try {
+                record.applyTo(internBook);
+            } catch (RuntimeException e) {
+                // The model rejects records that do not fit the data, e.g. marking a company that is already marked
+                throw new IllegalValueException(String.format(JsonAdaptedJournalRecord.MESSAGE_INVALID_RECORD,
+                        e.getMessage() != null ? e.getMessage() : e), e);
+            }
+        }
+
+        if (lineStart < bytes.length) {
+            logger.warning("Discarding partially written record at the end of journal " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(lineStart);
+            }
+        }
+        return isFirstLine ? 0 : lineStart;
+    }
+
+    /**
+     * Returns {@code records} as compact JSON, one record per line.
+     */
+    private static byte[] toJsonLines(List<JsonAdaptedJournalRecord> records) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (JsonAdaptedJournalRecord record : records) {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+                generator.writeObject(record);
+            }
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // read only to update the checksum
+            }
+        }
+        return crc.getValue();
+    }
+}
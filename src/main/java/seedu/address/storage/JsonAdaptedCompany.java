@@ -20,10 +20,11 @@ import seedu.address.model.tag.Tag;
 /**
  * Jackson-friendly version of {@link Company}.
  */
-class JsonAdaptedCompany {
+public class JsonAdaptedCompany {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -34,14 +35,17 @@ class JsonAdaptedCompany {
 
     /**
      * Constructs a {@code JsonAdaptedCompany} with the given company details.
+     * {@code id} may be null for companies saved before companies had ids, which are given new ones when loaded.
      */
     @JsonCreator
-    public JsonAdaptedCompany(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedCompany(@JsonProperty("id") Long id,
+                              @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                               @JsonProperty("email") String email,
                               @JsonProperty("startDate") String startDate,
                               @JsonProperty("endDate") String endDate,
                               @JsonProperty("tags") List<JsonAdaptedTag> tags,
                               @JsonProperty("isMarked") boolean isMarked) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -57,6 +61,7 @@ class JsonAdaptedCompany {
      * Converts a given {@code Company} into this class for Jackson use.
      */
     public JsonAdaptedCompany(Company source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -125,12 +130,15 @@ class JsonAdaptedCompany {
 
         final Set<Tag> modelTags = new HashSet<>(companyTags);
 
-        Company modelCompany = new Company(modelName, modelPhone, modelEmail, modelStartDate, modelEndDate, modelTags);
-        if (isMarked) {
-            modelCompany.mark();
+        if (id != null && !Company.isValidId(id)) {
+            throw new IllegalValueException(Company.MESSAGE_ID_CONSTRAINTS);
         }
 
-        return modelCompany;
+        if (id == null) {
+            return new Company(modelName, modelPhone, modelEmail, modelStartDate, modelEndDate, modelTags)
+                    .withMarked(isMarked);
+        }
+        return new Company(id, modelName, modelPhone, modelEmail, modelStartDate, modelEndDate, modelTags, isMarked);
     }
 
 }
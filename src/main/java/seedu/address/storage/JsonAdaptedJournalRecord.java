@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.sorttype.SortType;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.InternBook;
+import seedu.address.model.InternBookChange;
+import seedu.address.model.company.Company;
+
+/**
+ * Jackson-friendly version of one change recorded in an intern book journal.
+ * Companies are referred to by their ids, so a record applies to the same company however the list is sorted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    static final String OP_BASE = "base";
+    static final String OP_ADD = "add";
+    static final String OP_SET = "set";
+    static final String OP_DELETE = "delete";
+    static final String OP_MARK = "mark";
+    static final String OP_UNMARK = "unmark";
+    static final String OP_SORT = "sort";
+
+    static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final Long id;
+    private final JsonAdaptedCompany company;
+    private final SortType sortType;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("id") Long id,
+                                    @JsonProperty("company") JsonAdaptedCompany company,
+                                    @JsonProperty("sortType") SortType sortType,
+                                    @JsonProperty("checksum") Long checksum) {
+        this.op = op;
+        this.id = id;
+        this.company = company;
+        this.sortType = sortType;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the record that starts a journal kept on top of a data file with the given {@code checksum}.
+     */
+    static JsonAdaptedJournalRecord base(long checksum) {
+        return new JsonAdaptedJournalRecord(OP_BASE, null, null, null, checksum);
+    }
+
+    /**
+     * Returns the record of {@code change}, which must not start a chain of changes.
+     */
+    static JsonAdaptedJournalRecord of(InternBookChange change) {
+        switch (change.getType()) {
+        case ADD:
+            return new JsonAdaptedJournalRecord(OP_ADD, null, new JsonAdaptedCompany(change.getCompany()), null, null);
+        case SET:
+            return new JsonAdaptedJournalRecord(OP_SET, change.getCompanyId(),
+                    new JsonAdaptedCompany(change.getCompany()), null, null);
+        case DELETE:
+            return new JsonAdaptedJournalRecord(OP_DELETE, change.getCompanyId(), null, null, null);
+        case MARK:
+            return new JsonAdaptedJournalRecord(OP_MARK, change.getCompanyId(), null, null, null);
+        case UNMARK:
+            return new JsonAdaptedJournalRecord(OP_UNMARK, change.getCompanyId(), null, null, null);
+        case SORT:
+            return sort(change.getSortType());
+        default:
+            throw new AssertionError("Change cannot be recorded: " + change.getType());
+        }
+    }
+
+    static JsonAdaptedJournalRecord sort(SortType sortType) {
+        return new JsonAdaptedJournalRecord(OP_SORT, null, null, sortType, null);
+    }
+
+    boolean isBase() {
+        return OP_BASE.equals(op);
+    }
+
+    /**
+     * Returns the checksum of the data file this journal was started on, if this is a base record.
+     */
+    Long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies the change in this record to {@code internBook}.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code internBook}.
+     */
+    void applyTo(InternBook internBook) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            internBook.addCompany(toModelCompany());
+            break;
+        case OP_SET:
+            internBook.setCompany(getCompanyWithId(internBook), toModelCompany());
+            break;
+        case OP_DELETE:
+            internBook.removeCompany(getCompanyWithId(internBook));
+            break;
+        case OP_MARK:
+            internBook.markCompany(getCompanyWithId(internBook));
+            break;
+        case OP_UNMARK:
+            internBook.unmarkCompany(getCompanyWithId(internBook));
+            break;
+        case OP_SORT:
+            applySort(internBook);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown op " + op));
+        }
+    }
+
+    private Company toModelCompany() throws IllegalValueException {
+        if (company == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " without company"));
+        }
+        return company.toModelType();
+    }
+
+    private Company getCompanyWithId(InternBook internBook) throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " without id"));
+        }
+        return internBook.findCompanyById(id).orElseThrow(() -> new IllegalValueException(
+                String.format(MESSAGE_INVALID_RECORD, op + " of unknown id " + id)));
+    }
+
+    private void applySort(InternBook internBook) throws IllegalValueException {
+        if (sortType == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "sort without sortType"));
+        }
+
+        internBook.sortCompanyList(sortType);
+    }
+}
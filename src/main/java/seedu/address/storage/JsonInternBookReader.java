@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.InternBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.exceptions.DuplicateCompanyException;
+
+/**
+ * Reads an InternBook JSON data file one company at a time.
+ * Each element of the {@code companies} array is bound to a {@link JsonAdaptedCompany} and converted into a
+ * {@link Company} straight away, so neither the file contents nor a {@link JsonSerializableInternBook} of the whole
+ * book is ever held in memory.
+ */
+class JsonInternBookReader {
+
+    /**
+     * Reads the InternBook stored at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not a well-formed InternBook JSON file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static InternBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        List<Company> companies = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (JsonSerializableInternBook.COMPANIES_FIELD.equals(fieldName)
+                        && valueToken == JsonToken.START_ARRAY) {
+                    readCompanies(parser, companies);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, token, JsonToken.END_OBJECT);
+        }
+
+        InternBook internBook = new InternBook();
+        try {
+            internBook.setCompanies(companies);
+        } catch (DuplicateCompanyException dce) {
+            throw new IllegalValueException(JsonSerializableInternBook.MESSAGE_DUPLICATE_COMPANY);
+        }
+        return internBook;
+    }
+
+    /**
+     * Converts each element of the array at the current position of {@code parser} and appends it to
+     * {@code companies}. The parser must be positioned at the start of the array.
+     */
+    private static void readCompanies(JsonParser parser, List<Company> companies)
+            throws IOException, IllegalValueException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            companies.add(parser.readValueAs(JsonAdaptedCompany.class).toModelType());
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
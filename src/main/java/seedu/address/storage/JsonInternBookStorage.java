@@ -3,15 +3,16 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.durability.Durability;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyInternBook;
 
 /**
@@ -22,9 +23,23 @@ public class JsonInternBookStorage implements InternBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonInternBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final Durability durability;
 
     public JsonInternBookStorage(Path filePath) {
+        this(filePath, false, Durability.DATA);
+    }
+
+    /**
+     * Creates a {@code JsonInternBookStorage} for {@code filePath}.
+     *
+     * @param isCompact whether the data file should be written without indentation or line breaks.
+     * @param durability what each save forces to the storage device before returning.
+     */
+    public JsonInternBookStorage(Path filePath, boolean isCompact, Durability durability) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.durability = durability;
     }
 
     public Path getInternBookFilePath() {
@@ -38,6 +53,7 @@ public class JsonInternBookStorage implements InternBookStorage {
 
     /**
      * Similar to {@link #readInternBook()}.
+     * The file is streamed one company at a time by {@link JsonInternBookReader}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +61,16 @@ public class JsonInternBookStorage implements InternBookStorage {
     public Optional<ReadOnlyInternBook> readInternBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableInternBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableInternBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonInternBookReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +84,8 @@ public class JsonInternBookStorage implements InternBookStorage {
 
     /**
      * Similar to {@link #saveInternBook(ReadOnlyInternBook)}.
+     * Companies are streamed to the file one at a time by {@link JsonInternBookWriter}, and the file is replaced
+     * atomically so that a failed save leaves the previous data intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +93,8 @@ public class JsonInternBookStorage implements InternBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInternBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonInternBookWriter.write(addressBook, filePath, isCompact, durability);
     }
 
 }
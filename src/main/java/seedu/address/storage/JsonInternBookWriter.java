@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.durability.Durability;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyInternBook;
+import seedu.address.model.company.Company;
+
+/**
+ * Writes an InternBook to a JSON data file one company at a time.
+ * Each company is converted into a {@link JsonAdaptedCompany} and written straight to the file through the
+ * generator's own buffer, so the whole book is never held in memory as a {@code String} or byte array.
+ */
+class JsonInternBookWriter {
+
+    /**
+     * Writes {@code internBook} to {@code filePath}, atomically replacing any existing contents.
+     *
+     * @param isCompact whether to write the file without indentation or line breaks.
+     * @param durability what to force to the storage device before returning.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyInternBook internBook, Path filePath, boolean isCompact, Durability durability)
+            throws IOException {
+        requireNonNull(internBook);
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(filePath, durability, out -> write(internBook, out, isCompact));
+    }
+
+    /**
+     * Writes {@code internBook} to {@code out} and closes it.
+     *
+     * @param isCompact whether to write the data without indentation or line breaks.
+     * @throws IOException if there was any problem writing to {@code out}.
+     */
+    static void write(ReadOnlyInternBook internBook, OutputStream out, boolean isCompact) throws IOException {
+        requireNonNull(internBook);
+        requireNonNull(out);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, !isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(JsonSerializableInternBook.COMPANIES_FIELD);
+            for (Company company : internBook.getCompanyList()) {
+                generator.writeObject(new JsonAdaptedCompany(company));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
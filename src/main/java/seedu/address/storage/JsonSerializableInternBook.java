@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.InternBook;
 import seedu.address.model.ReadOnlyInternBook;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.exceptions.DuplicateCompanyException;
 
 /**
  * An Immutable InternBook that is serializable to JSON format.
@@ -21,13 +22,15 @@ class JsonSerializableInternBook {
 
     public static final String MESSAGE_DUPLICATE_COMPANY = "Companies list contains duplicate company(s).";
 
+    static final String COMPANIES_FIELD = "companies";
+
     private final List<JsonAdaptedCompany> companies = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableInternBook(@JsonProperty("companies") List<JsonAdaptedCompany> companies) {
+    public JsonSerializableInternBook(@JsonProperty(COMPANIES_FIELD) List<JsonAdaptedCompany> companies) {
         this.companies.addAll(companies);
     }
 
@@ -42,17 +45,21 @@ class JsonSerializableInternBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All companies are converted first and then loaded into the intern book in one bulk operation.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public InternBook toModelType() throws IllegalValueException {
-        InternBook internBook = new InternBook();
+        List<Company> modelCompanies = new ArrayList<>(companies.size());
         for (JsonAdaptedCompany jsonAdaptedCompany : companies) {
-            Company company = jsonAdaptedCompany.toModelType();
-            if (internBook.hasCompany(company)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_COMPANY);
-            }
-            internBook.addCompany(company);
+            modelCompanies.add(jsonAdaptedCompany.toModelType());
+        }
+
+        InternBook internBook = new InternBook();
+        try {
+            internBook.setCompanies(modelCompanies);
+        } catch (DuplicateCompanyException dce) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_COMPANY);
         }
         return internBook;
     }
@@ -33,6 +33,12 @@ public class CompanyListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Company} using a {@code CompanyCard}.
      */
     class CompanyListViewCell extends ListCell<Company> {
+        @Override
+        protected boolean isItemChanged(Company oldCompany, Company newCompany) {
+            // a marked copy of a company is equal to it, but must still be shown again
+            return oldCompany != newCompany;
+        }
+
         @Override
         protected void updateItem(Company company, boolean empty) {
             super.updateItem(company, empty);
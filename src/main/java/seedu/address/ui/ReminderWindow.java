@@ -53,7 +53,7 @@ public class ReminderWindow extends UiPart<Stage> {
         assert logic != null;
         ObservableList<Company> filteredList = logic.getFilteredCompaniesRemindersList();
         companyListPanel = new CompanyListPanel(filteredList);
-        companyListPanelPlaceholder.getChildren().add(companyListPanel.getRoot());
+        companyListPanelPlaceholder.getChildren().setAll(companyListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
 
@@ -63,7 +63,7 @@ public class ReminderWindow extends UiPart<Stage> {
             resultDisplay.setFeedbackToUser(REMINDER_MESSAGE);
         }
 
-        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        resultDisplayPlaceholder.getChildren().setAll(resultDisplay.getRoot());
     }
 
     void showReminder() {
@@ -0,0 +1,102 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.model.InternBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonInternBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_ALPHA = "add -n Alpha -t software engineer -e alpha@example.com";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model;
+    private StorageManager storage;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new InternBook(), new UserPrefs());
+        storage = new StorageManager(new JsonInternBookStorage(temporaryFolder.resolve("internBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(model, storage, null, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void executeAll_validCommands_printsResultsAndSaves() throws Exception {
+        assertEquals(0, app.executeAll(List.of(ADD_ALPHA, ListCommand.COMMAND_WORD)));
+
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains(ListCommand.MESSAGE_SUCCESS));
+        assertTrue(output.contains("1. " + Messages.format(model.getFilteredCompanyList().get(0))));
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+        assertEquals(model.getInternBook(), storage.readInternBook().get());
+    }
+
+    @Test
+    public void executeAll_invalidCommand_printsErrorAndFails() {
+        assertEquals(HeadlessApp.EXIT_STATUS_FAILURE, app.executeAll(List.of("unknown", ADD_ALPHA)));
+
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(Messages.MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(1, model.getFilteredCompanyList().size());
+    }
+
+    @Test
+    public void executeLines_exitCommand_stopsReading() throws Exception {
+        BufferedReader in = new BufferedReader(new StringReader(ADD_ALPHA + "\n\nexit\n" + ADD_ALPHA + "\n"));
+
+        assertEquals(0, app.executeLines(in, false));
+        assertEquals(1, model.getFilteredCompanyList().size());
+        assertTrue(in.readLine() != null);
+    }
+
+    @Test
+    public void executeLines_interactive_printsPrompts() throws Exception {
+        app.executeLines(new BufferedReader(new StringReader("help\n")), true);
+
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertTrue(output.startsWith(HeadlessApp.PROMPT + HeadlessApp.MESSAGE_HELP));
+        assertTrue(output.endsWith(HeadlessApp.PROMPT));
+    }
+
+    @Test
+    public void messageHelp_containsUsageOfEveryCommand() {
+        for (String usage : List.of(AddCommand.MESSAGE_USAGE, ListCommand.MESSAGE_USAGE, ClearCommand.MESSAGE_USAGE,
+                ExitCommand.MESSAGE_USAGE, HelpCommand.MESSAGE_USAGE, UndoCommand.MESSAGE_USAGE,
+                RedoCommand.MESSAGE_USAGE, RunCommand.MESSAGE_USAGE)) {
+            assertTrue(HeadlessApp.MESSAGE_HELP.contains(usage));
+        }
+    }
+}
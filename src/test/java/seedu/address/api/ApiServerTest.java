@@ -0,0 +1,287 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.InternBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonInternBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final Clock clock = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private ExecutorService modelThread;
+    private Model model;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // The typical companies are shared by all tests, so the API is given copies of them to change
+        model = new ModelManager(InternBook.snapshotOf(getTypicalInternBook()), new UserPrefs(), clock);
+        StorageManager storage = new StorageManager(
+                new JsonInternBookStorage(temporaryFolder.resolve("internBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        modelThread = Executors.newSingleThreadExecutor();
+        ApiServer.disableResponseDelay();
+        apiServer = new ApiServer(new LogicManager(model, storage), model, modelThread, clock, 4);
+        apiServer.start(0);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        apiServer.close();
+        modelThread.shutdown();
+        modelThread.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void getUrl_loopbackAddressAndPort() {
+        String expectedHost = InetAddress.getLoopbackAddress().getHostAddress();
+        if (expectedHost.contains(":")) {
+            expectedHost = "[" + expectedHost + "]";
+        }
+        assertEquals("http://" + expectedHost + ":" + apiServer.getPort() + "/api", apiServer.getUrl());
+    }
+
+    @Test
+    public void getCompanies_allCompanies() throws Exception {
+        HttpResponse<String> response = get(ApiServer.COMPANIES_PATH);
+        assertEquals(200, response.statusCode());
+        JsonNode companies = parse(response).get("companies");
+        assertEquals(getTypicalInternBook().getCompanyList().size(), companies.size());
+        assertEquals("Amaze", companies.get(0).get("name").asText());
+    }
+
+    @Test
+    public void getCompanies_withFindKeyword_matchingCompanies() throws Exception {
+        HttpResponse<String> response = get(ApiServer.COMPANIES_PATH + "?find=" + encode("Amaz"));
+        assertEquals(200, response.statusCode());
+        JsonNode companies = parse(response).get("companies");
+        assertEquals(2, companies.size());
+        assertEquals("Amaze", companies.get(0).get("name").asText());
+        assertEquals("Amazon", companies.get(1).get("name").asText());
+
+        assertEquals(400, get(ApiServer.COMPANIES_PATH + "?find=%20").statusCode());
+    }
+
+    @Test
+    public void getReminders_success() throws Exception {
+        HttpResponse<String> response = get(ApiServer.REMINDERS_PATH);
+        assertEquals(200, response.statusCode());
+        assertTrue(parse(response).get("companies").isArray());
+    }
+
+    @Test
+    public void postCommand_validCommand_changesSeenByNextRead() throws Exception {
+        // take a snapshot first, so that the read after the command has to notice it is stale
+        assertEquals(200, get(ApiServer.COMPANIES_PATH).statusCode());
+
+        HttpResponse<String> response = postCommand("add -n Api Test Company -t Intern -e api@example.com");
+        assertEquals(200, response.statusCode());
+        assertTrue(parse(response).get("feedback").asText().contains("Api Test Company"));
+
+        JsonNode companies = parse(get(ApiServer.COMPANIES_PATH + "?find=Api")).get("companies");
+        assertEquals(1, companies.size());
+        assertEquals("Api Test Company", companies.get(0).get("name").asText());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = postCommand("unknownCommand");
+        assertEquals(400, response.statusCode());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, parse(response).get("error").asText());
+
+        // index out of range
+        assertEquals(400, postCommand("delete 1000").statusCode());
+
+        response = client.send(createRequest(ApiServer.COMMANDS_PATH).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("delete 1")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(400, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_INVALID_REQUEST, parse(response).get("error").asText());
+    }
+
+    @Test
+    public void postCommand_concurrentCommands_allExecuted() throws Exception {
+        int initialSize = getTypicalInternBook().getCompanyList().size();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            HttpRequest request = createPostCommand("add -n Concurrent Company " + i + " -t Intern -e api@example.com");
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get(10, TimeUnit.SECONDS).statusCode());
+        }
+        assertEquals(initialSize + 50, parse(get(ApiServer.COMPANIES_PATH)).get("companies").size());
+    }
+
+    @Test
+    public void handle_unknownPathOrMethod_error() throws Exception {
+        assertEquals(404, get("/api/unknown").statusCode());
+
+        HttpResponse<String> response = get(ApiServer.COMMANDS_PATH);
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(""));
+    }
+
+    @Test
+    public void handle_requestFromWebPage_forbidden() throws Exception {
+        HttpResponse<String> response = client.send(createRequest(ApiServer.COMPANIES_PATH)
+                .header("Origin", "http://example.com").GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_FORBIDDEN_ORIGIN, parse(response).get("error").asText());
+
+        response = client.send(createPostCommandBuilder("clear").header("Origin", "http://example.com").build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertCompaniesNotCleared();
+    }
+
+    @Test
+    public void handle_hostNotLoopbackAddress_forbidden() throws Exception {
+        assertEquals(403, sendWithHost("attacker.example.com:" + apiServer.getPort()));
+        assertEquals(403, sendWithHost("127.0.0.1:" + (apiServer.getPort() + 1)));
+        assertEquals(403, sendWithHost(null));
+
+        assertEquals(200, sendWithHost("localhost:" + apiServer.getPort()));
+        assertEquals(200, sendWithHost("127.0.0.1:" + apiServer.getPort()));
+    }
+
+    @Test
+    public void handle_missingOrWrongToken_unauthorized() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(getUri(ApiServer.COMPANIES_PATH))
+                .GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNAUTHORIZED, parse(response).get("error").asText());
+
+        response = client.send(HttpRequest.newBuilder(getUri(ApiServer.COMMANDS_PATH))
+                .header("Authorization", ApiServer.AUTHORIZATION_SCHEME + apiServer.getToken() + "x")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"clear\"}")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+        assertCompaniesNotCleared();
+    }
+
+    @Test
+    public void postCommand_notJson_unsupportedMediaType() throws Exception {
+        HttpResponse<String> response = client.send(createRequest(ApiServer.COMMANDS_PATH)
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"clear\"}")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(415, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNSUPPORTED_MEDIA_TYPE, parse(response).get("error").asText());
+
+        response = client.send(createRequest(ApiServer.COMMANDS_PATH)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"clear\"}")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(415, response.statusCode());
+        assertCompaniesNotCleared();
+
+        // parameters of the media type are allowed
+        response = client.send(createRequest(ApiServer.COMMANDS_PATH)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"list\"}")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+    }
+
+    private void assertCompaniesNotCleared() throws Exception {
+        assertEquals(getTypicalInternBook().getCompanyList().size(),
+                parse(get(ApiServer.COMPANIES_PATH)).get("companies").size());
+    }
+
+    /**
+     * Sends a GET request for all companies with {@code host} as its {@code Host} header, or without one if
+     * {@code host} is null, and returns the status code of the response. The request is written by hand, as
+     * {@code HttpClient} does not allow the {@code Host} header to be set.
+     */
+    private int sendWithHost(String host) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            String request = "GET " + ApiServer.COMPANIES_PATH + " HTTP/1.1\r\n"
+                    + (host == null ? "" : "Host: " + host + "\r\n")
+                    + "Authorization: " + ApiServer.AUTHORIZATION_SCHEME + apiServer.getToken() + "\r\n"
+                    + "Connection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            // the status line is "HTTP/1.1 STATUS REASON"
+            return Integer.parseInt(in.readLine().split(" ")[1]);
+        }
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return client.send(createRequest(pathAndQuery).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder createRequest(String pathAndQuery) {
+        return HttpRequest.newBuilder(getUri(pathAndQuery))
+                .header("Authorization", ApiServer.AUTHORIZATION_SCHEME + apiServer.getToken());
+    }
+
+    private HttpResponse<String> postCommand(String commandText) throws Exception {
+        return client.send(createPostCommand(commandText), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest createPostCommand(String commandText) throws Exception {
+        return createPostCommandBuilder(commandText).build();
+    }
+
+    private HttpRequest.Builder createPostCommandBuilder(String commandText) throws Exception {
+        String body = "{\"command\": " + JsonUtil.toJsonString(commandText) + "}";
+        return createRequest(ApiServer.COMMANDS_PATH).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private URI getUri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + apiServer.getPort() + pathAndQuery);
+    }
+
+    private static JsonNode parse(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), JsonNode.class);
+    }
+
+    private static String encode(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+}
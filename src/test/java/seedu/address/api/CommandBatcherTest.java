@@ -0,0 +1,108 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.InternBookParser;
+import seedu.address.model.InternBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonInternBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandBatcherTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final InternBookParser parser = new InternBookParser();
+    /** Tasks given to the model's thread, which the tests run themselves. */
+    private final List<Runnable> modelTasks = new ArrayList<>();
+    private Model model;
+    private LogicManager logic;
+    private int batchCount;
+    private CommandBatcher commandBatcher;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(InternBook.snapshotOf(getTypicalInternBook()), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(
+                new JsonInternBookStorage(temporaryFolder.resolve("internBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")))) {
+            @Override
+            public void executeBatch(Runnable commands) throws CommandException {
+                batchCount++;
+                super.executeBatch(commands);
+            }
+        };
+        commandBatcher = new CommandBatcher(logic, model, modelTasks::add);
+    }
+
+    @Test
+    public void submit_commandsArriveTogether_executedInOneTurn() throws Exception {
+        int initialSize = model.getInternBook().getCompanyList().size();
+        CompletableFuture<CommandResult> first = submit("add -n Batch One -t Intern -e one@example.com");
+        CompletableFuture<CommandResult> second = submit("add -n Batch Two -t Intern -e two@example.com");
+        // deletes the last company of the displayed list, which must already show both added companies
+        CompletableFuture<CommandResult> third = submit("delete " + (initialSize + 2));
+        assertEquals(1, modelTasks.size());
+
+        runModelTasks();
+        assertTrue(first.isDone() && second.isDone() && third.isDone());
+        third.get();
+        assertEquals(initialSize + 1, model.getInternBook().getCompanyList().size());
+        // the delete depends on the displayed list, so it is executed in a batch of its own
+        assertEquals(2, batchCount);
+    }
+
+    @Test
+    public void submit_failingCommand_onlyThatCommandFails() throws Exception {
+        CompletableFuture<CommandResult> failing = submit("delete 1000");
+        CompletableFuture<CommandResult> succeeding = submit("add -n Batch One -t Intern -e one@example.com");
+        runModelTasks();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, failing::get);
+        assertTrue(exception.getCause() instanceof CommandException);
+        succeeding.get();
+    }
+
+    @Test
+    public void submit_moreThanMaxBatchSize_drainedInSeveralTurns() throws Exception {
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        for (int i = 0; i < CommandBatcher.MAX_BATCH_SIZE + 1; i++) {
+            results.add(submit("add -n Batch " + i + " -t Intern -e batch@example.com"));
+        }
+        runModelTasks();
+        for (CompletableFuture<CommandResult> result : results) {
+            result.get();
+        }
+        assertEquals(2, batchCount);
+    }
+
+    private CompletableFuture<CommandResult> submit(String commandText) throws Exception {
+        return commandBatcher.submit(parser.parseCommand(commandText));
+    }
+
+    private void runModelTasks() {
+        while (!modelTasks.isEmpty()) {
+            modelTasks.remove(0).run();
+        }
+    }
+}
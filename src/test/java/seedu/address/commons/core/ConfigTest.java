@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", compactDataFile=" + config.isCompactDataFile()
+                + ", journaledDataFile=" + config.isJournaledDataFile()
+                + ", dataFileDurability=" + config.getDataFileDurability()
+                + ", dataFileFormat=" + config.getDataFileFormat() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,47 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeListTest {
+
+    @Test
+    public void of_overlappingRangesInAnyOrder_sortedDistinctIndexes() {
+        IndexRangeList indexes = IndexRangeList.of(List.of(new int[] {7, 8}, new int[] {2, 4}, new int[] {3, 5},
+                new int[] {10, 10}, new int[] {6, 6}));
+        assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 10), indexes.stream().map(Index::getOneBased)
+                .collect(Collectors.toList()));
+        assertEquals(8, indexes.size());
+        assertEquals(Index.fromOneBased(10), indexes.get(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> indexes.get(8));
+    }
+
+    @Test
+    public void of_rangesEndingAtLargestInt_noRepeats() {
+        IndexRangeList indexes = IndexRangeList.of(List.of(new int[] {Integer.MAX_VALUE - 1, Integer.MAX_VALUE},
+                new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE}, new int[] {Integer.MAX_VALUE - 1,
+                    Integer.MAX_VALUE - 1}));
+        assertEquals(List.of(Index.fromOneBased(Integer.MAX_VALUE - 1), Index.fromOneBased(Integer.MAX_VALUE)),
+                indexes);
+    }
+
+    @Test
+    public void of_hugeRange_notExpanded() {
+        IndexRangeList indexes = IndexRangeList.of(List.of(new int[] {1, Integer.MAX_VALUE}));
+        assertEquals(Integer.MAX_VALUE, indexes.size());
+        assertEquals(Index.fromOneBased(Integer.MAX_VALUE), indexes.get(Integer.MAX_VALUE - 1));
+        assertSame(indexes, IndexRangeList.copyOf(indexes));
+    }
+
+    @Test
+    public void of_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexRangeList.of(List.of(new int[] {0, 1})));
+        assertThrows(IllegalArgumentException.class, () -> IndexRangeList.of(List.of(new int[] {3, 2})));
+    }
+}
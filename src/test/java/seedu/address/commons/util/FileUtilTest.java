@@ -1,13 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.durability.Durability;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,78 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_everyDurability_replacesContents() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old");
+
+        for (Durability durability : Durability.values()) {
+            FileUtil.writeToFile(file, "new " + durability, durability);
+            assertEquals("new " + durability, FileUtil.readFromFile(file));
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentsKept() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, Durability.DATA, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy IO exception");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeAtomically_leftoverTemporaryFile_replacesContents() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        // a directory where a fixed temporary file name would be written
+        Files.createDirectory(testFolder.resolve("data.txt.tmp"));
+
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_permissionsKept() throws Exception {
+        if (!testFolder.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old");
+
+        for (String permissions : new String[] {"rw-r--r--", "rw-rw----", "rw-------"}) {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString(permissions));
+            FileUtil.writeToFile(file, "new");
+            assertEquals(permissions, PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+        }
+    }
+
+    @Test
+    public void writeAtomically_cleanupFails_writerExceptionThrownWithCleanupSuppressed() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        IOException writerException = new IOException("dummy IO exception");
+
+        try {
+            FileUtil.writeAtomically(file, Durability.NONE, out -> {
+                // replace the temporary file with a directory that cannot be deleted because it is not empty
+                try (Stream<Path> files = Files.list(testFolder)) {
+                    Path tempFile = files.filter(path -> !path.equals(file)).findFirst().orElseThrow();
+                    Files.delete(tempFile);
+                    Files.createDirectories(tempFile.resolve("child"));
+                }
+                throw writerException;
+            });
+            fail();
+        } catch (IOException thrown) {
+            assertSame(writerException, thrown);
+            assertEquals(1, thrown.getSuppressed().length);
+        }
+    }
+
 }
@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_noElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(List.of(), list);
+        assertSame(list, PersistentList.of(List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(0));
+    }
+
+    @Test
+    public void of_sameElementsInOrder() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list);
+        assertEquals(Integer.valueOf(500), list.get(500));
+        assertEquals(elements.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void changes_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x"));
+        assertEquals(List.of("a", "b", "c", "d"), original.plus("d"));
+        assertEquals(List.of("x", "a", "b", "c"), original.plus(0, "x"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void changes_invalidArguments_throwExceptions() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(NullPointerException.class, () -> list.plus(null));
+        assertThrows(NullPointerException.class, () -> list.with(0, null));
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("x"));
+    }
+
+    @Test
+    public void changes_randomSequence_eachVersionMatchesArrayList() {
+        Random random = new Random(42);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.plus(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, i);
+                expected.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    public void plus_manyElementsAtEnd_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        // the changes are recursive, so they would overflow the stack if the tree were as deep as it is long
+        for (int i = 0; i < 100_000; i++) {
+            list = list.plus(i);
+        }
+        for (int i = 0; i < list.size(); i += 997) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        while (list.size() > 1) {
+            list = list.minus(0);
+        }
+        assertEquals(List.of(99_999), list);
+    }
+}
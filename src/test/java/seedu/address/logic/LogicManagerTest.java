@@ -1,17 +1,23 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_ADIDAS;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_ADIDAS;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_ADIDAS;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_ENGINEER;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.ADIDAS;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +27,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -70,6 +79,55 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("internBook.json")));
+    }
+
+    @Test
+    public void execute_commandWithChanges_saves() throws Exception {
+        model.addCompany(new CompanyBuilder(ADIDAS).build());
+        logic.execute(MarkCommand.COMMAND_WORD + " 1");
+        assertTrue(Files.exists(temporaryFolder.resolve("internBook.json")));
+    }
+
+    @Test
+    public void execute_undoAfterCommandWithChanges_changesUndoneAndSaved() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_ADIDAS + PHONE_DESC_ADIDAS + EMAIL_DESC_ADIDAS
+                + TAG_DESC_ENGINEER);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, model.getFilteredCompanyList().size());
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(0, model.getFilteredCompanyList().size());
+        assertEquals(0, new JsonInternBookStorage(temporaryFolder.resolve("internBook.json"))
+                .readInternBook().get().getCompanyList().size());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_scriptFailsAfterChanges_changesCommittedAndSaved() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        StringBuilder script = new StringBuilder(AddCommand.COMMAND_WORD + NAME_DESC_ADIDAS + PHONE_DESC_ADIDAS
+                + EMAIL_DESC_ADIDAS + TAG_DESC_ENGINEER + "\n");
+        // comments longer than the buffer of the reader, so that the invalid bytes are only decoded after the add
+        for (int i = 0; i < 1000; i++) {
+            script.append("# padding line\n");
+        }
+        Files.write(scriptPath, script.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(scriptPath, new byte[] {(byte) 0xff, (byte) 0xfe, '\n'}, StandardOpenOption.APPEND);
+
+        assertThrows(CommandException.class, () -> logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath));
+        assertEquals(1, model.getFilteredCompanyList().size());
+        assertEquals(1, new JsonInternBookStorage(temporaryFolder.resolve("internBook.json"))
+                .readInternBook().get().getCompanyList().size());
+
+        // the changes made before the failure are one step that can be undone
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getFilteredCompanyList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,130 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ReminderSettings;
+import seedu.address.model.InternBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.model.reminder.Days;
+import seedu.address.model.reminder.ReminderOnOff;
+import seedu.address.testutil.CompanyBuilder;
+
+public class ReminderSchedulerTest {
+
+    private final Company endsSoon = new CompanyBuilder().withName("Ends Soon").withEndDate("2024-06-05").build();
+    private final Company endsLater = new CompanyBuilder().withName("Ends Later").withEndDate("2024-06-20").build();
+    private final Company markedEndsLater =
+            new CompanyBuilder().withName("Marked Ends Later").withEndDate("2024-06-10").build();
+    private final SettableClock clock = new SettableClock(Instant.parse("2024-06-01T12:00:00Z"));
+    private ReminderScheduler reminderScheduler;
+
+    @AfterEach
+    public void tearDown() {
+        if (reminderScheduler != null) {
+            reminderScheduler.close();
+        }
+    }
+
+    @Test
+    public void reschedule_companyInReminderList_schedulesDayAfterItEnds() {
+        ModelManager model = createModel(endsSoon, endsLater, markedEndsLater);
+        reminderScheduler = new ReminderScheduler(model, clock, Runnable::run);
+
+        reminderScheduler.reschedule();
+        assertEquals(Optional.of(LocalDate.parse("2024-06-06")), reminderScheduler.getScheduledDate());
+    }
+
+    @Test
+    public void reschedule_companyAfterWindow_schedulesDayItEntersWindow() {
+        ModelManager model = createModel(endsLater, markedEndsLater);
+        reminderScheduler = new ReminderScheduler(model, clock, Runnable::run);
+
+        // the marked company is never reminded about, so it does not count
+        reminderScheduler.reschedule();
+        assertEquals(Optional.of(LocalDate.parse("2024-06-13")), reminderScheduler.getScheduledDate());
+
+        model.deleteCompany(endsLater);
+        reminderScheduler.reschedule();
+        assertEquals(Optional.empty(), reminderScheduler.getScheduledDate());
+    }
+
+    @Test
+    public void reschedule_dateReached_refreshesReminderListAndCallsHandler() throws Exception {
+        clock.setInstant(Instant.parse("2024-06-12T23:59:59.900Z"));
+        ModelManager model = createModel(endsLater);
+        reminderScheduler = new ReminderScheduler(model, clock, Runnable::run);
+        CountDownLatch handlerCalled = new CountDownLatch(1);
+        reminderScheduler.setReminderHandler(handlerCalled::countDown);
+
+        reminderScheduler.reschedule();
+        assertEquals(Optional.of(LocalDate.parse("2024-06-13")), reminderScheduler.getScheduledDate());
+        clock.setInstant(Instant.parse("2024-06-13T00:00:00Z"));
+
+        assertTrue(handlerCalled.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(endsLater), model.getFilteredCompaniesRemindersList());
+        assertEquals(Optional.of(LocalDate.parse("2024-06-21")), reminderScheduler.getScheduledDate());
+    }
+
+    /**
+     * Returns a model of {@code companies} that reminds about companies ending within 7 days, with
+     * {@code markedEndsLater} marked if it is one of them.
+     */
+    private ModelManager createModel(Company... companies) {
+        InternBook internBook = new InternBook();
+        for (Company company : companies) {
+            internBook.addCompany(company);
+        }
+        if (internBook.hasCompany(markedEndsLater)) {
+            internBook.markCompany(markedEndsLater);
+        }
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setReminderSettings(new ReminderSettings(new ReminderOnOff("true"), new Days("7")));
+        return new ModelManager(internBook, userPrefs, clock);
+    }
+
+    /**
+     * A clock whose time can be changed by the test.
+     */
+    private static class SettableClock extends Clock {
+        private volatile Instant instant;
+
+        SettableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void setInstant(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.AMAZON;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,10 +22,12 @@ import seedu.address.commons.core.ReminderSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.InternBook;
+import seedu.address.model.InternBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyInternBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.NameContainsKeywordsPredicate;
 import seedu.address.testutil.CompanyBuilder;
 
 public class AddCommandTest {
@@ -149,11 +153,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getInternBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public InternBookSnapshot getInternBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCompany(Company company) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Runnable mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteCompany(Company target) {
             throw new AssertionError("This method should not be called.");
@@ -164,6 +183,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Company> getFilteredCompanyList() {
             throw new AssertionError("This method should not be called.");
@@ -174,11 +218,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refreshReminderList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<LocalDate> getNextReminderChangeDate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredCompanyList(Predicate<Company> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredCompanyList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortCompanyListByName() {
             throw new AssertionError("This method should not be called.");
@@ -142,4 +142,14 @@ public class CommandTestUtil {
         assertEquals(1, model.getFilteredCompanyList().size());
     }
 
+    /**
+     * Deletes the first company in {@code model}'s filtered list from {@code model}'s intern book, and commits the
+     * change as one step that can be undone.
+     */
+    public static void deleteFirstCompany(Model model) {
+        Company firstCompany = model.getFilteredCompanyList().get(0);
+        model.deleteCompany(firstCompany);
+        model.commitInternBook();
+    }
+
 }
@@ -9,11 +9,15 @@ import static seedu.address.logic.commands.CommandTestUtil.showCompanyAtIndex;
 import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_COMPANY;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_COMPANY;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -41,6 +45,38 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexesUnfilteredList_success() {
+        Company firstCompany = model.getFilteredCompanyList().get(INDEX_FIRST_COMPANY.getZeroBased());
+        Company thirdCompany = model.getFilteredCompanyList().get(INDEX_THIRD_COMPANY.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_COMPANY, INDEX_THIRD_COMPANY));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_COMPANIES_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getInternBook(), new UserPrefs());
+        expectedModel.deleteCompany(firstCompany);
+        expectedModel.deleteCompany(thirdCompany);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneInvalidIndexOfMany_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCompanyList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_COMPANY, outOfBoundIndex));
+
+        // no company is deleted
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_rangeFarPastDisplayedList_throwsCommandException() throws Exception {
+        DeleteCommand deleteCommand = new DeleteCommand(ParserUtil.parseIndexes("1-2000000"));
+
+        // no company is deleted
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCompanyList().size() + 1);
@@ -105,7 +141,7 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndexes=" + List.of(targetIndex) + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -18,6 +18,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_COMPANY;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -30,12 +32,14 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditCommand.EditCompanyDescriptor;
 import seedu.address.model.InternBook;
+import seedu.address.model.InternBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyInternBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.NameContainsKeywordsPredicate;
 import seedu.address.testutil.CompanyBuilder;
 import seedu.address.testutil.EditCompanyDescriptorBuilder;
 /**
@@ -196,11 +200,26 @@ public class EditCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getInternBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public InternBookSnapshot getInternBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCompany(Company company) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Runnable mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteCompany(Company target) {
             throw new AssertionError("This method should not be called.");
@@ -211,6 +230,31 @@ public class EditCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void commitInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoInternBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Company> getFilteredCompanyList() {
             throw new AssertionError("This method should not be called.");
@@ -221,11 +265,26 @@ public class EditCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void refreshReminderList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<LocalDate> getNextReminderChangeDate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredCompanyList(Predicate<Company> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredCompanyList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortCompanyListByName() {
             throw new AssertionError("This method should not be called.");
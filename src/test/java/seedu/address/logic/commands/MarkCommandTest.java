@@ -9,10 +9,13 @@ import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_COMPANY;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.model.InternBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -29,8 +32,7 @@ class MarkCommandTest {
     public void execute_validIndexUnfilteredList_success() {
         Company companyToMark = model.getFilteredCompanyList().get(INDEX_FIRST_COMPANY.getZeroBased());
         MarkCommand markCommand = new MarkCommand(INDEX_FIRST_COMPANY);
-        // Unmark the company first
-        model.unmarkCompany(companyToMark);
+        assertFalse(model.isCompanyMarked(companyToMark));
 
         String expectedMessage = String.format(MarkCommand.MESSAGE_MARK_COMPANY_SUCCESS,
                 Messages.format(companyToMark));
@@ -39,6 +41,40 @@ class MarkCommandTest {
         assertCommandSuccess(markCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexes_marksAllCompanies() throws Exception {
+        Model model = new ModelManager(InternBook.snapshotOf(getTypicalInternBook()), new UserPrefs());
+        Company firstCompany = model.getFilteredCompanyList().get(INDEX_FIRST_COMPANY.getZeroBased());
+        Company secondCompany = model.getFilteredCompanyList().get(INDEX_SECOND_COMPANY.getZeroBased());
+        for (Company company : List.of(firstCompany, secondCompany)) {
+            if (model.isCompanyMarked(company)) {
+                model.unmarkCompany(company);
+            }
+        }
+
+        CommandResult result = new MarkCommand(List.of(INDEX_FIRST_COMPANY, INDEX_SECOND_COMPANY)).execute(model);
+        assertEquals(String.format(MarkCommand.MESSAGE_MARK_COMPANIES_SUCCESS, 2), result.getFeedbackToUser());
+        assertTrue(model.isCompanyMarked(firstCompany));
+        assertTrue(model.isCompanyMarked(secondCompany));
+    }
+
+    @Test
+    public void execute_oneOfManyAlreadyMarked_throwsCommandException() {
+        Model model = new ModelManager(InternBook.snapshotOf(getTypicalInternBook()), new UserPrefs());
+        Company firstCompany = model.getFilteredCompanyList().get(INDEX_FIRST_COMPANY.getZeroBased());
+        Company secondCompany = model.getFilteredCompanyList().get(INDEX_SECOND_COMPANY.getZeroBased());
+        if (model.isCompanyMarked(firstCompany)) {
+            model.unmarkCompany(firstCompany);
+        }
+        if (!model.isCompanyMarked(secondCompany)) {
+            model.markCompany(secondCompany);
+        }
+
+        MarkCommand markCommand = new MarkCommand(List.of(INDEX_FIRST_COMPANY, INDEX_SECOND_COMPANY));
+        assertCommandFailure(markCommand, model, String.format(MarkCommand.MESSAGE_COMPANIES_ALREADY_MARKED, 2));
+        assertFalse(model.isCompanyMarked(firstCompany));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCompanyList().size() + 1);
@@ -85,7 +121,7 @@ class MarkCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         MarkCommand markCommand = new MarkCommand(targetIndex);
-        String expected = MarkCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = MarkCommand.class.getCanonicalName() + "{targetIndexes=" + List.of(targetIndex) + "}";
         assertEquals(expected, markCommand.toString());
     }
 }
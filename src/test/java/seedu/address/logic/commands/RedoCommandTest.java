@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.deleteFirstCompany;
+import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalInternBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalInternBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of both models' undo/redo history
+        deleteFirstCompany(model);
+        deleteFirstCompany(model);
+        model.undoInternBook();
+        model.undoInternBook();
+
+        deleteFirstCompany(expectedModel);
+        deleteFirstCompany(expectedModel);
+        expectedModel.undoInternBook();
+        expectedModel.undoInternBook();
+    }
+
+    @Test
+    public void execute() {
+        // multiple redoable states in model
+        expectedModel.redoInternBook();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single redoable state in model
+        expectedModel.redoInternBook();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no redoable state in model
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
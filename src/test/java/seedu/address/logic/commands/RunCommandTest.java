@@ -0,0 +1,173 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.InternBookParser;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.InternBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.exceptions.DuplicateCompanyException;
+import seedu.address.testutil.CompanyBuilder;
+
+public class RunCommandTest {
+
+    private static final String ADD_ALPHA = "add -n Alpha -t software engineer -e alpha@example.com";
+    private static final String ADD_BETA = "add -n Beta -t software engineer -e beta@example.com";
+
+    @TempDir
+    public Path testFolder;
+
+    private final InternBookParser parser = new InternBookParser();
+    private final Model model = new ModelManager(new InternBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_runsAllCommands() throws Exception {
+        Path scriptPath = writeScript("# companies to apply to", ADD_ALPHA, "", ADD_BETA, "mark 1-2");
+
+        CommandResult result = new RunCommand(scriptPath, parser::parseCommand).execute(model);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, scriptPath), result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredCompanyList().size());
+        assertTrue(model.isCompanyMarked(model.getFilteredCompanyList().get(0)));
+        assertTrue(model.isCompanyMarked(model.getFilteredCompanyList().get(1)));
+    }
+
+    @Test
+    public void execute_invalidLines_reportsErrorsAndRunsOtherLines() throws Exception {
+        Path scriptPath = writeScript(ADD_ALPHA, "unknown", "delete 5", "run other.txt", ADD_BETA);
+
+        CommandResult result = new RunCommand(scriptPath, parser::parseCommand).execute(model);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS_WITH_ERRORS, 5, scriptPath, 3)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 4, RunCommand.MESSAGE_NESTED_RUN);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredCompanyList().size());
+    }
+
+    @Test
+    public void execute_addThenUndo_undoRejectedAndEarlierChangesKept() throws Exception {
+        model.addCompany(new CompanyBuilder().withName("Gamma").build());
+        model.commitInternBook();
+        Path scriptPath = writeScript(ADD_ALPHA, UndoCommand.COMMAND_WORD, ADD_BETA, RedoCommand.COMMAND_WORD);
+
+        CommandResult result = new RunCommand(scriptPath, parser::parseCommand).execute(model);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS_WITH_ERRORS, 4, scriptPath, 2)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, RunCommand.MESSAGE_UNDO_IN_SCRIPT)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 4, RunCommand.MESSAGE_UNDO_IN_SCRIPT);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(3, model.getFilteredCompanyList().size());
+    }
+
+    @Test
+    public void execute_unexpectedExceptions_reportsErrorsAndRunsOtherLines() throws Exception {
+        Path scriptPath = writeScript(ADD_ALPHA, "fail in parser", "fail in command", ADD_BETA);
+        Parser<Command> failingParser = commandText -> {
+            if (commandText.equals("fail in parser")) {
+                throw new IllegalArgumentException("parser failed");
+            } else if (commandText.equals("fail in command")) {
+                return new Command() {
+                    @Override
+                    public CommandResult execute(Model model) {
+                        throw new DuplicateCompanyException();
+                    }
+                };
+            }
+            return parser.parseCommand(commandText);
+        };
+
+        CommandResult result = new RunCommand(scriptPath, failingParser).execute(model);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS_WITH_ERRORS, 4, scriptPath, 2)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2,
+                        String.format(RunCommand.MESSAGE_UNEXPECTED_ERROR, "parser failed"))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 3, String.format(
+                        RunCommand.MESSAGE_UNEXPECTED_ERROR, new DuplicateCompanyException().getMessage()));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredCompanyList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidLines_reportsFirstErrorsOnly() throws Exception {
+        int errorCount = RunCommand.MAX_REPORTED_ERRORS + 5;
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < errorCount; i++) {
+            lines.add("unknown");
+        }
+        Path scriptPath = writeScript(lines.toArray(new String[0]));
+
+        String feedback = new RunCommand(scriptPath, parser::parseCommand).execute(model).getFeedbackToUser();
+        String[] feedbackLines = feedback.split("\n");
+        assertEquals(RunCommand.MAX_REPORTED_ERRORS + 2, feedbackLines.length);
+        assertEquals(String.format(RunCommand.MESSAGE_MORE_ERRORS, 5), feedbackLines[feedbackLines.length - 1]);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunCommand(scriptPath, parser::parseCommand).execute(model));
+        assertTrue(model.getFilteredCompanyList().isEmpty());
+    }
+
+    @Test
+    public void execute_validScript_publishesOneChange() throws Exception {
+        Path scriptPath = writeScript(ADD_ALPHA, ADD_BETA);
+        int[] changeCount = new int[1];
+        model.getInternBook().getCompanyList().addListener((ListChangeListener<Company>) change -> changeCount[0]++);
+
+        new RunCommand(scriptPath, parser::parseCommand).execute(model);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Path.of("first.txt"), parser::parseCommand);
+        RunCommand runSecondCommand = new RunCommand(Path.of("second.txt"), parser::parseCommand);
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Path.of("first.txt"), parser::parseCommand)));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path scriptPath = Path.of("commands.txt");
+        RunCommand runCommand = new RunCommand(scriptPath, parser::parseCommand);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptPath=" + scriptPath + "}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.deleteFirstCompany;
+import static seedu.address.logic.commands.CommandTestUtil.showCompanyAtIndex;
+import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalInternBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalInternBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of models' undo/redo history
+        deleteFirstCompany(model);
+        deleteFirstCompany(model);
+
+        deleteFirstCompany(expectedModel);
+        deleteFirstCompany(expectedModel);
+    }
+
+    @Test
+    public void execute() {
+        // multiple undoable states in model
+        expectedModel.undoInternBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model, shown while the list is filtered
+        showCompanyAtIndex(model, INDEX_FIRST_COMPANY);
+        expectedModel.undoInternBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_COMPANY;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -51,7 +53,7 @@ public class UnmarkCommandTest {
     public void execute_alreadyUnmarked_throwsCommandException() {
         Company companyToUnmark = model.getFilteredCompanyList().get(INDEX_FIRST_COMPANY.getZeroBased());
         UnmarkCommand unmarkCommand = new UnmarkCommand(INDEX_FIRST_COMPANY);
-        model.unmarkCompany(companyToUnmark);
+        assertFalse(model.isCompanyMarked(companyToUnmark));
 
         assertCommandFailure(unmarkCommand, model, UnmarkCommand.MESSAGE_COMPANY_ALREADY_UNMARKED);
     }
@@ -85,7 +87,7 @@ public class UnmarkCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         UnmarkCommand unmarkCommand = new UnmarkCommand(targetIndex);
-        String expected = UnmarkCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = UnmarkCommand.class.getCanonicalName() + "{targetIndexes=" + List.of(targetIndex) + "}";
         assertEquals(expected, unmarkCommand.toString());
     }
 }
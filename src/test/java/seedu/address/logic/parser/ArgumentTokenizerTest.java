@@ -136,6 +136,30 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesStartingAlike_longestPrefixRecognized() {
+        Prefix dashD = new Prefix("-d");
+        Prefix dashDays = new Prefix("-days");
+        String argsString = "preamble -days 7 -d 2024-01-01 -dx";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashD, dashDays);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashDays, "7");
+        assertArgumentPresent(argMultimap, dashD, "2024-01-01", "x");
+    }
+
+    @Test
+    public void tokenize_prefixAtEnd_emptyValue() {
+        String argsString = "preamble -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashT, "");
+
+        // prefix without a space before it
+        argMultimap = ArgumentTokenizer.tokenize("-t value", dashT);
+        assertPreamblePresent(argMultimap, "-t value");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,101 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.company.NameContainsKeywordsPredicate;
+
+public class CommandRegistryTest {
+
+    private final Command listCommand = new ListCommand();
+    private final Command listAllCommand = new ListCommand();
+    private final Command clearCommand = new ClearCommand();
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register("find", "find usage", new FindCommandParser());
+        registry.register("list", "list usage", arguments -> listCommand);
+        registry.register("listall", "listall usage", arguments -> listAllCommand);
+        registry.register("filter", "filter usage", arguments -> listCommand);
+        registry.registerWithoutAbbreviation("clear", "clear usage", arguments -> clearCommand);
+    }
+
+    @Test
+    public void register_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("", "", arguments -> new ListCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("a b", "a b",
+                arguments -> new ListCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("find", "find",
+                arguments -> new ListCommand()));
+    }
+
+    @Test
+    public void getUsages_returnsUsagesInRegistrationOrder() {
+        assertEquals(List.of("find usage", "list usage", "listall usage", "filter usage", "clear usage"),
+                registry.getUsages());
+    }
+
+    @Test
+    public void parse_fullCommandWord_parsesArgumentsWithRegisteredParser() throws Exception {
+        Command expected = new FindCommand(new NameContainsKeywordsPredicate("foo bar"));
+        assertEquals(expected, registry.parse("find foo bar"));
+        assertEquals(expected, registry.parse("  find\tfoo bar  "));
+    }
+
+    @Test
+    public void parse_uniqueAbbreviation_parsesAsFullCommandWord() throws Exception {
+        assertEquals(new FindCommand(new NameContainsKeywordsPredicate("foo")), registry.parse("fin foo"));
+        assertSame(listAllCommand, registry.parse("lista"));
+    }
+
+    @Test
+    public void parse_commandWordIsPrefixOfAnother_exactMatchWins() throws Exception {
+        // "list" is also an abbreviation of "listall", but it is a command word of its own
+        assertSame(listCommand, registry.parse("list"));
+    }
+
+    @Test
+    public void parse_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "f", "filter, find"), ()
+            -> registry.parse("f foo"));
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "li", "list, listall"), ()
+            -> registry.parse("li"));
+    }
+
+    @Test
+    public void parse_abbreviationOfCommandWithoutAbbreviation_throwsParseException() throws Exception {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("cl"));
+        assertSame(clearCommand, registry.parse("clear"));
+    }
+
+    @Test
+    public void parse_unknownCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("finds foo"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("x"));
+    }
+
+    @Test
+    public void findCommandWord() {
+        assertEquals(Optional.of("find"), registry.findCommandWord(" fin foo"));
+        assertEquals(Optional.of("listall"), registry.findCommandWord("lista"));
+        assertEquals(Optional.empty(), registry.findCommandWord("f"));
+        assertEquals(Optional.empty(), registry.findCommandWord("unknown"));
+        assertEquals(Optional.empty(), registry.findCommandWord("   "));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -20,8 +21,11 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SetReminderCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.company.Company;
@@ -66,6 +70,12 @@ public class InternBookParserTest {
         assertTrue(command instanceof UnmarkCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        Command command = parser.parseCommand(RunCommand.COMMAND_WORD + " commands.txt");
+        assertTrue(command instanceof RunCommand);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -114,6 +124,41 @@ public class InternBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_abbreviatedCommandWord() throws Exception {
+        assertTrue(parser.parseCommand("l") instanceof ListCommand);
+        assertTrue(parser.parseCommand("unm 1") instanceof UnmarkCommand);
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "e", "edit, exit"), ()
+            -> parser.parseCommand("e 1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "u", "undo, unmark"), ()
+            -> parser.parseCommand("u 1"));
+    }
+
+    @Test
+    public void parseCommand_undoCommandWord_returnsUndoCommand() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand("und 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redoCommandWord_returnsRedoCommand() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand("red 1") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_abbreviatedClear_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cl"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedDeleteOrEdit_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("d 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("de 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("del 1-500"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ed 1 -n Google"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
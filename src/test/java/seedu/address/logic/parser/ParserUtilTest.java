@@ -2,16 +2,19 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COMPANY;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.company.Date;
 import seedu.address.model.company.Email;
@@ -49,6 +52,40 @@ public class ParserUtilTest {
                 -> ParserUtil.parseIndex(Long.toString(Integer.MAX_VALUE + 1)));
     }
 
+    @Test
+    public void parseIndexes_validInput_returnsSortedDistinctIndexes() throws Exception {
+        assertEquals(Arrays.asList(INDEX_FIRST_COMPANY), ParserUtil.parseIndexes(" 1 "));
+        assertEquals(Arrays.asList(Index.fromOneBased(1), Index.fromOneBased(3), Index.fromOneBased(4),
+                Index.fromOneBased(5)), ParserUtil.parseIndexes("3 - 5, 1,4"));
+    }
+
+    @Test
+    public void parseIndexes_overlappingRangesAtLargestIndex_noRepeats() throws Exception {
+        int last = Integer.MAX_VALUE;
+        assertEquals(Arrays.asList(Index.fromOneBased(last - 2), Index.fromOneBased(last - 1),
+                Index.fromOneBased(last)),
+                ParserUtil.parseIndexes((last - 1) + "-" + last + ", " + last + ", " + (last - 2) + "-" + last));
+    }
+
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexes(""));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexes("1,,2"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexes("0-2"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "5-3"), ()
+                -> ParserUtil.parseIndexes("1,5-3"));
+    }
+
+    @Test
+    public void parseIndexes_hugeRanges_notExpanded() throws Exception {
+        assertEquals(2_000_000, ParserUtil.parseIndexes("1-2000000").size());
+
+        // repeated indexes are merged, so even every positive index can be given more than once
+        List<Index> allIndexes = ParserUtil.parseIndexes("1-" + Integer.MAX_VALUE + ", 5-10, " + Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, allIndexes.size());
+        assertEquals(Index.fromOneBased(Integer.MAX_VALUE), allIndexes.get(Integer.MAX_VALUE - 1));
+    }
+
     @Test
     public void parseIndex_validInput_success() throws Exception {
         // No whitespaces
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final InternBookParser internBookParser = new InternBookParser();
+    private final RunCommandParser parser = new RunCommandParser(internBookParser::parseCommand);
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " data/commands.txt ",
+                new RunCommand(Path.of("data/commands.txt"), internBookParser::parseCommand));
+
+        // path with spaces
+        assertParseSuccess(parser, " my scripts/commands.txt",
+                new RunCommand(Path.of("my scripts/commands.txt"), internBookParser::parseCommand));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, "a\0b", expectedMessage);
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.ADIDAS;
+import static seedu.address.testutil.TypicalCompanies.AMAZON;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.sorttype.SortType;
+
+public class InternBookChangeTest {
+
+    @Test
+    public void getChangesSince_earlierChange_returnsChangesInOrder() {
+        InternBookChange start = InternBookChange.start();
+        InternBookChange add = start.thenAdd(AMAZON);
+        InternBookChange mark = add.thenMark(AMAZON.getId(), true);
+        InternBookChange sort = mark.thenSort(SortType.ALPHANUMERICAL_ASCENDING);
+
+        assertEquals(List.of(add, mark, sort), sort.getChangesSince(start).get());
+        assertEquals(List.of(sort), sort.getChangesSince(mark).get());
+        assertEquals(Collections.emptyList(), sort.getChangesSince(sort).get());
+    }
+
+    @Test
+    public void getChangesSince_changeNotBefore_returnsEmpty() {
+        InternBookChange start = InternBookChange.start();
+        InternBookChange add = start.thenAdd(AMAZON);
+        InternBookChange otherAdd = start.thenAdd(ADIDAS);
+
+        // later change, change on another branch and change in another chain
+        assertTrue(start.getChangesSince(add).isEmpty());
+        assertTrue(otherAdd.getChangesSince(add).isEmpty());
+        assertTrue(add.getChangesSince(InternBookChange.start()).isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_chainCut_returnsEmpty() {
+        InternBookChange start = InternBookChange.start();
+        InternBookChange change = start;
+        for (int i = 0; i < InternBookChange.MAX_CHAIN_LENGTH; i++) {
+            change = change.thenDelete(AMAZON.getId());
+        }
+
+        assertTrue(change.getChangesSince(start).isEmpty());
+    }
+
+    @Test
+    public void changes_madeToInternBook_followEachOther() {
+        InternBook internBook = new InternBook();
+        InternBookChange start = internBook.getLastChange();
+        internBook.addCompany(AMAZON);
+        internBook.markCompany(AMAZON);
+        internBook.removeCompany(AMAZON);
+
+        List<InternBookChange> changes = internBook.getLastChange().getChangesSince(start).get();
+        assertEquals(3, changes.size());
+        assertEquals(InternBookChange.Type.ADD, changes.get(0).getType());
+        assertEquals(InternBookChange.Type.MARK, changes.get(1).getType());
+        assertEquals(InternBookChange.Type.DELETE, changes.get(2).getType());
+        assertEquals(AMAZON.getId(), changes.get(2).getCompanyId());
+        assertTrue(internBook.snapshot().getLastChange() == internBook.getLastChange());
+    }
+}
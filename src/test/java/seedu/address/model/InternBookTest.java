@@ -7,16 +7,20 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.AMAZON;
 import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ReminderSettings;
+import seedu.address.commons.core.sorttype.SortType;
 import seedu.address.model.company.Company;
 import seedu.address.model.company.exceptions.DuplicateCompanyException;
 import seedu.address.testutil.CompanyBuilder;
@@ -52,6 +56,16 @@ public class InternBookTest {
         assertThrows(DuplicateCompanyException.class, () -> internBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withInternBook_copiesIndependentOfSource() {
+        InternBook newData = getTypicalInternBook();
+        internBook.resetData(newData);
+        newData.removeCompany(AMAZON);
+
+        assertTrue(internBook.hasCompany(AMAZON));
+        assertFalse(newData.hasCompany(AMAZON));
+    }
+
     @Test
     public void hasCompany_nullCompany_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> internBook.hasCompany(null));
@@ -80,6 +94,42 @@ public class InternBookTest {
         assertThrows(UnsupportedOperationException.class, () -> internBook.getCompanyList().remove(0));
     }
 
+    @Test
+    public void findCompanies_afterEditAndRemove_indexUpdated() {
+        internBook.resetData(getTypicalInternBook());
+        Company amazon = new CompanyBuilder(AMAZON).build();
+        Company editedAmazon = new CompanyBuilder(AMAZON).withName("Zalando").build();
+        internBook.setCompany(amazon, editedAmazon);
+        assertEquals(Collections.singleton(editedAmazon), internBook.findCompanies("zal"));
+        assertFalse(internBook.findCompanies("ama").contains(editedAmazon));
+
+        internBook.removeCompany(editedAmazon);
+        assertTrue(internBook.findCompanies("zal").isEmpty());
+    }
+
+    @Test
+    public void findCompanies_afterCompaniesReplacedAndRestored_indexUpdated() {
+        Company zalando = new CompanyBuilder().withName("Zalando").build();
+        internBook.resetData(getTypicalInternBook());
+        InternBookSnapshot typicalSnapshot = internBook.snapshot();
+        Set<Company> typicalMatches = new HashSet<>(internBook.findCompanies("ama"));
+        assertTrue(typicalMatches.contains(AMAZON));
+
+        internBook.setCompanies(List.of(zalando));
+        assertTrue(internBook.findCompanies("ama").isEmpty());
+        assertEquals(Collections.singleton(zalando), internBook.findCompanies("zal"));
+
+        internBook.restore(typicalSnapshot);
+        assertTrue(internBook.findCompanies("zal").isEmpty());
+        assertEquals(typicalMatches, new HashSet<>(internBook.findCompanies("ama")));
+
+        InternBook zalandoOnly = new InternBook();
+        zalandoOnly.setCompanies(List.of(zalando));
+        internBook.resetData(zalandoOnly);
+        assertTrue(internBook.findCompanies("ama").isEmpty());
+        assertEquals(Collections.singleton(zalando), internBook.findCompanies("zal"));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = InternBook.class.getCanonicalName() + "{companies=" + internBook.getCompanyList() + "}";
@@ -102,9 +152,19 @@ public class InternBookTest {
         }
 
         @Override
-        public ObservableList<Company> getReminderList(ReminderSettings reminderSettings) {
+        public ObservableList<Company> getReminderList(ReminderSettings reminderSettings, LocalDate today) {
             return companies;
         }
+
+        @Override
+        public SortType getSortType() {
+            return null;
+        }
+
+        @Override
+        public InternBookChange getLastChange() {
+            return InternBookChange.start();
+        }
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,11 +11,31 @@ import static seedu.address.testutil.TypicalCompanies.BYTEDANCE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.ReminderSettings;
+import seedu.address.model.company.Company;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
+import seedu.address.model.reminder.Days;
+import seedu.address.model.reminder.ReminderOnOff;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.CompanyBuilder;
 import seedu.address.testutil.InternBookBuilder;
 
 public class ModelManagerTest {
@@ -92,6 +113,188 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCompanyList().remove(0));
     }
 
+    @Test
+    public void getReminderList_fixedClock_returnsCompaniesEndingSoonByEndDate() {
+        Company endsToday = new CompanyBuilder().withName("Ends Today").withEndDate("2024-06-01").build();
+        Company endsLastDay = new CompanyBuilder().withName("Ends Last Day").withEndDate("2024-06-08").build();
+        Company endsTomorrow = new CompanyBuilder().withName("Ends Tomorrow").withEndDate("2024-06-02").build();
+        Company endedYesterday = new CompanyBuilder().withName("Ended Yesterday").withEndDate("2024-05-31").build();
+        Company endsTooLate = new CompanyBuilder().withName("Ends Too Late").withEndDate("2024-06-09").build();
+        Company noEndDate = new CompanyBuilder().withName("No End Date").withStartDate().withEndDate().build();
+        Company marked = new CompanyBuilder().withName("Marked").withEndDate("2024-06-03").build();
+        InternBook internBook = new InternBookBuilder().withPerson(endsToday).withPerson(endsLastDay)
+                .withPerson(endsTomorrow).withPerson(endedYesterday).withPerson(endsTooLate).withPerson(noEndDate)
+                .withPerson(marked).build();
+        internBook.markCompany(marked);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setReminderSettings(new ReminderSettings(new ReminderOnOff("true"), new Days("7")));
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+        modelManager = new ModelManager(internBook, userPrefs, clock);
+        List<Company> companiesBefore = new ArrayList<>(modelManager.getFilteredCompanyList());
+
+        assertEquals(Arrays.asList(endsToday, endsTomorrow, endsLastDay), modelManager.getReminderList());
+        assertEquals(Arrays.asList(endsToday, endsTomorrow, endsLastDay),
+                modelManager.getFilteredCompaniesRemindersList());
+        // computing reminders does not reorder the company list
+        assertEquals(companiesBefore, modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void setReminderSettings_moreDays_reminderListUpdated() {
+        Company endsSoon = new CompanyBuilder().withName("Ends Soon").withEndDate("2024-06-03").build();
+        Company endsLater = new CompanyBuilder().withName("Ends Later").withEndDate("2024-06-20").build();
+        InternBook internBook = new InternBookBuilder().withPerson(endsLater).withPerson(endsSoon).build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setReminderSettings(new ReminderSettings(new ReminderOnOff("true"), new Days("7")));
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+        modelManager = new ModelManager(internBook, userPrefs, clock);
+        ObservableList<Company> reminders = modelManager.getFilteredCompaniesRemindersList();
+        assertEquals(Arrays.asList(endsSoon), reminders);
+
+        modelManager.setReminderSettings(new ReminderSettings(new ReminderOnOff("true"), new Days("30")));
+        assertEquals(Arrays.asList(endsSoon, endsLater), reminders);
+
+        modelManager.markCompany(endsSoon);
+        assertEquals(Arrays.asList(endsLater), reminders);
+    }
+
+    @Test
+    public void batch_addAndDelete_filteredListShowsAllCompanies() {
+        modelManager = new ModelManager(new InternBookBuilder().withPerson(AMAZON).withPerson(BYTEDANCE).build(),
+                new UserPrefs());
+        modelManager.updateFilteredCompanyList(new NameContainsKeywordsPredicate(AMAZON.getName().fullName));
+        Company added = new CompanyBuilder().withName("Added").build();
+
+        modelManager.batch(() -> {
+            modelManager.addCompany(added);
+            modelManager.deleteCompany(AMAZON);
+        });
+        assertEquals(Arrays.asList(BYTEDANCE, added), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void markCompany_filteredByKeyword_markedCompanyStillShown() {
+        modelManager = new ModelManager(new InternBookBuilder().withPerson(AMAZON).withPerson(BYTEDANCE).build(),
+                new UserPrefs());
+        modelManager.updateFilteredCompanyList(new NameContainsKeywordsPredicate(AMAZON.getName().fullName));
+
+        modelManager.markCompany(AMAZON);
+        assertEquals(Arrays.asList(AMAZON), modelManager.getFilteredCompanyList());
+        assertTrue(modelManager.getFilteredCompanyList().get(0).isMarked());
+    }
+
+    @Test
+    public void getInternBookSnapshot_laterChanges_notSeenBySnapshot() {
+        Company company = new CompanyBuilder().withName("Snapshot").build();
+        modelManager.addCompany(company);
+        InternBookSnapshot snapshot = modelManager.getInternBookSnapshot();
+        assertSame(snapshot, modelManager.getInternBookSnapshot());
+
+        modelManager.markCompany(company);
+        modelManager.addCompany(new CompanyBuilder().withName("Other").build());
+        assertEquals(1, snapshot.getCompanyList().size());
+        assertFalse(snapshot.getCompanyList().get(0).isMarked());
+
+        InternBookSnapshot newSnapshot = modelManager.getInternBookSnapshot();
+        assertEquals(2, newSnapshot.getCompanyList().size());
+        assertTrue(newSnapshot.getCompanyList().get(0).isMarked());
+        assertEquals(modelManager.getInternBookVersion(), newSnapshot.getVersion());
+    }
+
+    @Test
+    public void getInternBookSnapshot_concurrentReadersAndWriters_consistentSnapshots() throws Exception {
+        int size = 200;
+        int writerCount = 2;
+        int batchesPerWriter = 300;
+        int readerCount = 4;
+        modelManager = new ModelManager(SampleDataUtil.getSyntheticInternBook(size), new UserPrefs());
+        long markedCount = countMarked(modelManager.getInternBook().getCompanyList());
+        assertTrue(markedCount > 0);
+
+        ExecutorService threads = Executors.newFixedThreadPool(writerCount + readerCount);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicInteger readCount = new AtomicInteger();
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < writerCount; w++) {
+                int firstIndex = size + w * batchesPerWriter;
+                writers.add(threads.submit(() -> {
+                    for (int i = 0; i < batchesPerWriter; i++) {
+                        // every batch keeps the number of companies and of marked companies the same
+                        Company added = SampleDataUtil.getSyntheticCompany(firstIndex + i).withMarked(false);
+                        modelManager.batch(() -> replaceAndMoveMark(modelManager, added));
+                        if (i % 50 == 0) {
+                            modelManager.sortCompanyListByName();
+                        } else if (i % 50 == 25) {
+                            modelManager.sortCompanyListByEndDate();
+                        }
+                    }
+                }));
+            }
+
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < readerCount; r++) {
+                readers.add(threads.submit(() -> {
+                    long lastVersion = -1;
+                    do {
+                        InternBookSnapshot snapshot = modelManager.getInternBookSnapshot();
+                        assertTrue(snapshot.getVersion() >= lastVersion);
+                        lastVersion = snapshot.getVersion();
+                        assertEquals(size, snapshot.getCompanyList().size());
+                        assertEquals(markedCount, countMarked(snapshot.getCompanyList()));
+                        for (Company reminder : snapshot.getReminderList(modelManager.getReminderSettings(),
+                                LocalDate.now())) {
+                            assertFalse(reminder.isMarked());
+                        }
+                        assertTrue(modelManager.getInternBookVersion() >= lastVersion);
+                        readCount.incrementAndGet();
+                    } while (isWriting.get());
+                }));
+            }
+
+            for (Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+            isWriting.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            isWriting.set(false);
+            threads.shutdownNow();
+        }
+
+        assertTrue(readCount.get() >= readerCount);
+        InternBookSnapshot finalSnapshot = modelManager.getInternBookSnapshot();
+        assertEquals(modelManager.getInternBookVersion(), finalSnapshot.getVersion());
+        assertEquals(new ArrayList<>(modelManager.getInternBook().getCompanyList()), finalSnapshot.getCompanyList());
+    }
+
+    /**
+     * Replaces an unmarked company of {@code model} with {@code added}, and moves a mark from a marked company to
+     * another unmarked one.
+     */
+    private static void replaceAndMoveMark(Model model, Company added) {
+        Company marked = null;
+        List<Company> unmarked = new ArrayList<>();
+        for (Company company : model.getInternBook().getCompanyList()) {
+            if (company.isMarked() && marked == null) {
+                marked = company;
+            } else if (!company.isMarked() && unmarked.size() < 2) {
+                unmarked.add(company);
+            }
+        }
+        model.unmarkCompany(marked);
+        model.markCompany(unmarked.get(0));
+        model.deleteCompany(unmarked.get(1));
+        model.addCompany(added);
+    }
+
+    private static long countMarked(List<Company> companies) {
+        return companies.stream().filter(Company::isMarked).count();
+    }
+
     @Test
     public void equals() {
         InternBook internBook = new InternBookBuilder().withPerson(AMAZON).withPerson(BYTEDANCE).build();
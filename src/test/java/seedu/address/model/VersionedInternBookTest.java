@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.sorttype.SortType;
+import seedu.address.model.company.Company;
+import seedu.address.testutil.CompanyBuilder;
+
+public class VersionedInternBookTest {
+
+    private final Company alpha = new CompanyBuilder().withName("Alpha").build();
+    private final Company beta = new CompanyBuilder().withName("Beta").build();
+
+    @Test
+    public void constructor_initialState_nothingToUndoOrRedo() {
+        VersionedInternBook versionedInternBook = new VersionedInternBook(getTypicalInternBook());
+        assertEquals(getTypicalInternBook(), versionedInternBook);
+        assertFalse(versionedInternBook.canUndo());
+        assertFalse(versionedInternBook.canRedo());
+        assertThrows(VersionedInternBook.NoUndoableStateException.class, versionedInternBook::undo);
+        assertThrows(VersionedInternBook.NoRedoableStateException.class, versionedInternBook::redo);
+        assertThrows(IllegalArgumentException.class, () -> new VersionedInternBook(new InternBook(), 0));
+    }
+
+    @Test
+    public void commit_unchanged_noNewState() {
+        VersionedInternBook versionedInternBook = new VersionedInternBook(new InternBook());
+        versionedInternBook.commit();
+        assertFalse(versionedInternBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_committedStates_restored() {
+        VersionedInternBook versionedInternBook = new VersionedInternBook(new InternBook());
+        versionedInternBook.addCompany(alpha);
+        versionedInternBook.commit();
+        versionedInternBook.addCompany(beta);
+        versionedInternBook.sortCompanyListByName();
+        versionedInternBook.commit();
+
+        versionedInternBook.undo();
+        assertEquals(List.of(alpha), versionedInternBook.getCompanyList());
+        assertEquals(null, versionedInternBook.getSortType());
+        assertTrue(versionedInternBook.canRedo());
+
+        // undoing does not count as a change to commit
+        versionedInternBook.commit();
+        assertTrue(versionedInternBook.canRedo());
+
+        versionedInternBook.redo();
+        assertEquals(List.of(alpha, beta), versionedInternBook.getCompanyList());
+        assertEquals(SortType.ALPHANUMERICAL_ASCENDING, versionedInternBook.getSortType());
+        assertFalse(versionedInternBook.canRedo());
+    }
+
+    @Test
+    public void undo_markedCompanies_marksRestored() {
+        VersionedInternBook versionedInternBook = new VersionedInternBook(new InternBook());
+        versionedInternBook.addCompany(alpha);
+        versionedInternBook.commit();
+        versionedInternBook.markCompany(alpha);
+        versionedInternBook.commit();
+
+        versionedInternBook.undo();
+        Company restored = versionedInternBook.getCompanyList().get(0);
+        assertFalse(restored.isMarked());
+
+        // marking the restored company does not change the state it was restored from
+        versionedInternBook.markCompany(restored);
+        versionedInternBook.commit();
+        versionedInternBook.undo();
+        assertFalse(versionedInternBook.getCompanyList().get(0).isMarked());
+        versionedInternBook.redo();
+        assertTrue(versionedInternBook.getCompanyList().get(0).isMarked());
+    }
+
+    @Test
+    public void commit_afterUndo_redoStatesDiscarded() {
+        VersionedInternBook versionedInternBook = new VersionedInternBook(new InternBook());
+        versionedInternBook.addCompany(alpha);
+        versionedInternBook.commit();
+        versionedInternBook.undo();
+
+        versionedInternBook.addCompany(beta);
+        versionedInternBook.commit();
+        assertFalse(versionedInternBook.canRedo());
+        versionedInternBook.undo();
+        assertEquals(List.of(), versionedInternBook.getCompanyList());
+    }
+
+    @Test
+    public void commit_moreThanMaxUndoSteps_oldestStatesDropped() {
+        VersionedInternBook versionedInternBook = new VersionedInternBook(new InternBook(), 3);
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Company company = new CompanyBuilder().withName("Company " + i).build();
+            companies.add(company);
+            versionedInternBook.addCompany(company);
+            versionedInternBook.commit();
+        }
+
+        int undoCount = 0;
+        while (versionedInternBook.canUndo()) {
+            versionedInternBook.undo();
+            undoCount++;
+        }
+        assertEquals(3, undoCount);
+        assertEquals(companies.subList(0, 2), versionedInternBook.getCompanyList());
+    }
+}
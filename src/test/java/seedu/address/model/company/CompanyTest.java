@@ -2,6 +2,7 @@ package seedu.address.model.company;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BMW;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BMW;
@@ -85,6 +86,41 @@ public class CompanyTest {
         assertFalse(AMAZON.equals(editedAlice));
     }
 
+    @Test
+    public void constructor_ids() {
+        // new companies get distinct ids
+        Company company = new CompanyBuilder().build();
+        Company otherCompany = new CompanyBuilder().build();
+        assertNotEquals(company.getId(), otherCompany.getId());
+
+        // given ids are kept, and companies created later get larger ids
+        Company companyWithId = new CompanyBuilder().withId(otherCompany.getId() + 1000).build();
+        assertEquals(otherCompany.getId() + 1000, companyWithId.getId());
+        assertTrue(new CompanyBuilder().build().getId() > companyWithId.getId());
+
+        // invalid id
+        assertThrows(IllegalArgumentException.class, () -> new CompanyBuilder().withId(0).build());
+
+        // ids are not compared by equals
+        assertTrue(company.equals(new CompanyBuilder(company).withId(company.getId() + 1).build()));
+    }
+
+    @Test
+    public void withMarked() {
+        Company company = new CompanyBuilder().build();
+        assertFalse(company.isMarked());
+        assertTrue(company.withMarked(false) == company);
+
+        // marking gives an equal copy with the same id, leaving the company unmarked
+        Company markedCompany = company.withMarked(true);
+        assertTrue(markedCompany.isMarked());
+        assertFalse(company.isMarked());
+        assertEquals(company, markedCompany);
+        assertEquals(company.getId(), markedCompany.getId());
+        assertTrue(markedCompany.withMarked(true) == markedCompany);
+        assertFalse(markedCompany.withMarked(false).isMarked());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Company.class.getCanonicalName()
@@ -6,16 +6,25 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_ENGINEER;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.AMAZON;
+import static seedu.address.testutil.TypicalCompanies.APPLE;
 import static seedu.address.testutil.TypicalCompanies.BMW;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.ReminderSettings;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.company.exceptions.DuplicateCompanyException;
+import seedu.address.model.reminder.Days;
+import seedu.address.model.reminder.ReminderOnOff;
 import seedu.address.testutil.CompanyBuilder;
 
 public class UniqueCompanyListTest {
@@ -45,6 +54,13 @@ public class UniqueCompanyListTest {
         assertTrue(uniqueCompanyList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_companyWithoutPhoneInList_returnsTrue() {
+        Company companyWithoutPhone = new CompanyBuilder(AMAZON).withPhone().build();
+        uniqueCompanyList.add(companyWithoutPhone);
+        assertTrue(uniqueCompanyList.contains(new CompanyBuilder(AMAZON).withPhone().build()));
+    }
+
     @Test
     public void add_nullCompany_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCompanyList.add(null));
@@ -107,6 +123,58 @@ public class UniqueCompanyListTest {
         assertThrows(DuplicateCompanyException.class, () -> uniqueCompanyList.setCompany(AMAZON, BMW));
     }
 
+    @Test
+    public void setCompany_editedCompanyHasIdOfAnotherCompany_throwsDuplicateCompanyException() {
+        uniqueCompanyList.add(AMAZON);
+        uniqueCompanyList.add(BMW);
+        Company editedAmazon = new CompanyBuilder(AMAZON).withTags(VALID_TAG_ENGINEER).withId(BMW.getId()).build();
+        assertThrows(DuplicateCompanyException.class, () -> uniqueCompanyList.setCompany(AMAZON, editedAmazon));
+    }
+
+    @Test
+    public void add_companyWithIdOfAnotherCompany_throwsDuplicateCompanyException() {
+        uniqueCompanyList.add(AMAZON);
+        Company companyWithSameId = new CompanyBuilder(BMW).withId(AMAZON.getId()).build();
+        assertThrows(DuplicateCompanyException.class, () -> uniqueCompanyList.add(companyWithSameId));
+        assertThrows(DuplicateCompanyException.class, () ->
+                uniqueCompanyList.setCompany(Arrays.asList(AMAZON, companyWithSameId)));
+    }
+
+    @Test
+    public void findById_companiesChange_indexKeptUpToDate() {
+        uniqueCompanyList.add(AMAZON);
+        uniqueCompanyList.add(BMW);
+        assertEquals(AMAZON, uniqueCompanyList.findById(AMAZON.getId()).get());
+
+        Company editedAmazon = new CompanyBuilder(AMAZON).withTags(VALID_TAG_ENGINEER).withId(AMAZON.getId()).build();
+        uniqueCompanyList.setCompany(AMAZON, editedAmazon);
+        assertTrue(uniqueCompanyList.findById(AMAZON.getId()).get() == editedAmazon);
+
+        uniqueCompanyList.remove(editedAmazon);
+        assertTrue(uniqueCompanyList.findById(AMAZON.getId()).isEmpty());
+        assertEquals(BMW, uniqueCompanyList.findById(BMW.getId()).get());
+    }
+
+    @Test
+    public void markAndRemove_earlierVersionOfCompany_resolvedById() {
+        Company company = new CompanyBuilder().build();
+        uniqueCompanyList.add(company);
+        Company editedCompany = new CompanyBuilder(company).withTags(VALID_TAG_ENGINEER).withId(company.getId())
+                .build();
+        uniqueCompanyList.setCompany(company, editedCompany);
+
+        // the earlier version refers to the edited company in the list, which is replaced by a marked copy
+        Company markedCompany = uniqueCompanyList.mark(company);
+        assertEquals(editedCompany, markedCompany);
+        assertTrue(markedCompany.isMarked());
+        assertFalse(editedCompany.isMarked());
+        assertTrue(uniqueCompanyList.isMarked(company));
+        assertTrue(uniqueCompanyList.findById(company.getId()).get() == markedCompany);
+
+        uniqueCompanyList.remove(company);
+        assertEquals(Collections.emptyList(), uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullCompany_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCompanyList.remove(null));
@@ -125,6 +193,229 @@ public class UniqueCompanyListTest {
         assertEquals(expectedUniqueCompanyList, uniqueCompanyList);
     }
 
+    @Test
+    public void remove_companyBeforeOthers_keepsLaterCompaniesAddressable() {
+        uniqueCompanyList.add(AMAZON);
+        uniqueCompanyList.add(APPLE);
+        uniqueCompanyList.add(BMW);
+        uniqueCompanyList.remove(AMAZON);
+
+        assertFalse(uniqueCompanyList.contains(AMAZON));
+        Company editedBmw = new CompanyBuilder(BMW).withTags(VALID_TAG_ENGINEER).build();
+        uniqueCompanyList.setCompany(BMW, editedBmw);
+
+        UniqueCompanyList expectedUniqueCompanyList = new UniqueCompanyList();
+        expectedUniqueCompanyList.add(APPLE);
+        expectedUniqueCompanyList.add(editedBmw);
+        assertEquals(expectedUniqueCompanyList, uniqueCompanyList);
+        assertFalse(uniqueCompanyList.contains(BMW));
+    }
+
+    @Test
+    public void sortCompanyListByName_afterSort_removesCorrectCompany() {
+        uniqueCompanyList.add(BMW);
+        uniqueCompanyList.add(APPLE);
+        uniqueCompanyList.add(AMAZON);
+        uniqueCompanyList.sortCompanyListByName();
+        uniqueCompanyList.remove(APPLE);
+
+        UniqueCompanyList expectedUniqueCompanyList = new UniqueCompanyList();
+        expectedUniqueCompanyList.add(AMAZON);
+        expectedUniqueCompanyList.add(BMW);
+        assertEquals(expectedUniqueCompanyList, uniqueCompanyList);
+    }
+
+    @Test
+    public void sortCompanyListByName_changesAfterSort_keptInOrder() {
+        uniqueCompanyList.add(BMW);
+        uniqueCompanyList.add(AMAZON);
+        assertTrue(uniqueCompanyList.sortCompanyListByName());
+        assertFalse(uniqueCompanyList.sortCompanyListByName());
+
+        uniqueCompanyList.add(APPLE);
+        Company editedBmw = new CompanyBuilder(BMW).withName("Acer").build();
+        uniqueCompanyList.setCompany(BMW, editedBmw);
+        assertEquals(Arrays.asList(editedBmw, AMAZON, APPLE), uniqueCompanyList.asUnmodifiableObservableList());
+
+        uniqueCompanyList.remove(AMAZON);
+        assertEquals(Arrays.asList(editedBmw, APPLE), uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortCompanyListByStartDate_sameStartDate_orderDoesNotDependOnAdditionOrder() {
+        Company lowerCaseApple = new CompanyBuilder(APPLE).withName("apple").withEmail("other@example.com").build();
+        uniqueCompanyList.add(APPLE);
+        uniqueCompanyList.add(lowerCaseApple);
+        uniqueCompanyList.sortCompanyListByStartDate();
+
+        UniqueCompanyList otherUniqueCompanyList = new UniqueCompanyList();
+        otherUniqueCompanyList.sortCompanyListByStartDate();
+        otherUniqueCompanyList.add(lowerCaseApple);
+        otherUniqueCompanyList.add(APPLE);
+        assertEquals(uniqueCompanyList.asUnmodifiableObservableList(),
+                otherUniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableLiveReminderList_companiesChange_listKeptUpToDate() {
+        LocalDate today = LocalDate.parse("2024-06-01");
+        Company endsSoon = new CompanyBuilder().withName("Ends Soon").withEndDate("2024-06-03").build();
+        Company endsLater = new CompanyBuilder().withName("Ends Later").withEndDate("2024-06-10").build();
+        Company endsToday = new CompanyBuilder().withName("Ends Today").withEndDate("2024-06-01").build();
+        uniqueCompanyList.add(endsSoon);
+        uniqueCompanyList.add(endsLater);
+        ObservableList<Company> reminders = uniqueCompanyList.asUnmodifiableLiveReminderList();
+        assertEquals(Collections.emptyList(), reminders);
+
+        uniqueCompanyList.setReminderWindow(new ReminderSettings(new ReminderOnOff("true"), new Days("7")), today);
+        assertEquals(Arrays.asList(endsSoon), reminders);
+
+        uniqueCompanyList.add(endsToday);
+        assertEquals(Arrays.asList(endsToday, endsSoon), reminders);
+
+        uniqueCompanyList.mark(endsToday);
+        assertEquals(Arrays.asList(endsSoon), reminders);
+
+        uniqueCompanyList.unmark(endsToday);
+        assertEquals(Arrays.asList(endsToday, endsSoon), reminders);
+
+        Company editedEndsLater = new CompanyBuilder(endsLater).withEndDate("2024-06-02").build();
+        uniqueCompanyList.setCompany(endsLater, editedEndsLater);
+        assertEquals(Arrays.asList(endsToday, editedEndsLater, endsSoon), reminders);
+
+        uniqueCompanyList.remove(endsSoon);
+        assertEquals(Arrays.asList(endsToday, editedEndsLater), reminders);
+
+        uniqueCompanyList.setCompany(Arrays.asList(endsSoon, endsLater));
+        assertEquals(Arrays.asList(endsSoon), reminders);
+    }
+
+    @Test
+    public void setReminderWindow_numOfDaysChanged_listMatchesNewWindow() {
+        LocalDate today = LocalDate.parse("2024-06-01");
+        Company endsSoon = new CompanyBuilder().withName("Ends Soon").withEndDate("2024-06-03").build();
+        Company endsLater = new CompanyBuilder().withName("Ends Later").withEndDate("2024-06-10").build();
+        Company endsMuchLater = new CompanyBuilder().withName("Ends Much Later").withEndDate("2024-07-01").build();
+        uniqueCompanyList.setCompany(Arrays.asList(endsMuchLater, endsLater, endsSoon));
+        ObservableList<Company> reminders = uniqueCompanyList.asUnmodifiableLiveReminderList();
+
+        uniqueCompanyList.setReminderWindow(new ReminderSettings(new ReminderOnOff("true"), new Days("2")), today);
+        assertEquals(Arrays.asList(endsSoon), reminders);
+
+        uniqueCompanyList.setReminderWindow(new ReminderSettings(new ReminderOnOff("true"), new Days("30")), today);
+        assertEquals(Arrays.asList(endsSoon, endsLater, endsMuchLater), reminders);
+
+        uniqueCompanyList.setReminderWindow(new ReminderSettings(new ReminderOnOff("true"), new Days("9")), today);
+        assertEquals(Arrays.asList(endsSoon, endsLater), reminders);
+
+        uniqueCompanyList.setReminderWindow(new ReminderSettings(new ReminderOnOff("true"), new Days("9")),
+                today.plusDays(3));
+        assertEquals(Arrays.asList(endsLater), reminders);
+    }
+
+    @Test
+    public void getNextReminderChangeDate_companiesChange_earliestChangeOfUnmarkedCompanies() {
+        LocalDate today = LocalDate.parse("2024-06-01");
+        Company endsSoon = new CompanyBuilder().withName("Ends Soon").withEndDate("2024-06-05").build();
+        Company markedAfterWindow = new CompanyBuilder().withName("Marked").withEndDate("2024-06-04").build();
+        Company endsLater = new CompanyBuilder().withName("Ends Later").withEndDate("2024-06-20").build();
+        uniqueCompanyList.setCompany(Arrays.asList(endsSoon, markedAfterWindow, endsLater));
+        assertEquals(Optional.empty(), uniqueCompanyList.getNextReminderChangeDate());
+
+        // the marked company is skipped, so endsSoon is the first to enter the window
+        uniqueCompanyList.setReminderWindow(new ReminderSettings(new ReminderOnOff("true"), new Days("1")), today);
+        uniqueCompanyList.mark(markedAfterWindow);
+        assertEquals(Optional.of(LocalDate.parse("2024-06-04")), uniqueCompanyList.getNextReminderChangeDate());
+
+        // only endsLater is left, which enters the window one day before it ends
+        uniqueCompanyList.remove(endsSoon);
+        assertEquals(Optional.of(LocalDate.parse("2024-06-19")), uniqueCompanyList.getNextReminderChangeDate());
+
+        // unmarking a company makes its end date count again
+        uniqueCompanyList.unmark(markedAfterWindow);
+        assertEquals(Optional.of(LocalDate.parse("2024-06-03")), uniqueCompanyList.getNextReminderChangeDate());
+
+        uniqueCompanyList.remove(endsLater);
+        uniqueCompanyList.mark(markedAfterWindow);
+        assertEquals(Optional.empty(), uniqueCompanyList.getNextReminderChangeDate());
+
+        uniqueCompanyList.add(endsLater);
+        uniqueCompanyList.setReminderWindow(new ReminderSettings(new ReminderOnOff("true"),
+                new Days("999999999999")), today);
+        assertEquals(Optional.of(LocalDate.parse("2024-06-21")), uniqueCompanyList.getNextReminderChangeDate());
+    }
+
+    @Test
+    public void batch_manyChanges_listenersToldOnce() {
+        Company first = new CompanyBuilder().withName("First").build();
+        Company second = new CompanyBuilder().withName("Second").build();
+        Company third = new CompanyBuilder().withName("Third").build();
+        Company fourth = new CompanyBuilder().withName("Fourth").build();
+        uniqueCompanyList.setCompany(Arrays.asList(first, second, third, fourth));
+        List<Integer> changes = new ArrayList<>();
+        uniqueCompanyList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Company>) change -> changes.add(1));
+
+        uniqueCompanyList.batch(() -> {
+            uniqueCompanyList.remove(third);
+            uniqueCompanyList.remove(first);
+            uniqueCompanyList.add(AMAZON);
+            uniqueCompanyList.setCompany(fourth, APPLE);
+        });
+        assertEquals(Collections.singletonList(1), changes);
+        assertEquals(Arrays.asList(second, APPLE, AMAZON), uniqueCompanyList.asUnmodifiableObservableList());
+
+        // positions left out of date during the batch are correct afterwards
+        uniqueCompanyList.remove(AMAZON);
+        uniqueCompanyList.remove(second);
+        assertEquals(Collections.singletonList(APPLE), uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notSeenBySnapshot() {
+        Company beta = new CompanyBuilder().withName("Beta").withEndDate("2024-06-03").build();
+        Company alpha = new CompanyBuilder().withName("Alpha").withEndDate("2024-06-10").build();
+        uniqueCompanyList.setCompany(Arrays.asList(beta, alpha));
+        uniqueCompanyList.sortCompanyListByName();
+        CompanyListSnapshot snapshot = uniqueCompanyList.snapshot();
+
+        uniqueCompanyList.mark(alpha);
+        uniqueCompanyList.remove(beta);
+        uniqueCompanyList.add(AMAZON);
+
+        assertEquals(Arrays.asList(alpha, beta), snapshot.getCompanies());
+        assertFalse(snapshot.getCompanies().get(0).isMarked());
+        assertEquals(Arrays.asList(beta, alpha), snapshot.findReminders(
+                new ReminderSettings(new ReminderOnOff("true"), new Days("30")), LocalDate.parse("2024-06-01")));
+    }
+
+    @Test
+    public void restore_snapshot_sameCompaniesMarksAndOrder() {
+        Company beta = new CompanyBuilder().withName("Beta").build();
+        Company alpha = new CompanyBuilder().withName("Alpha").build();
+        uniqueCompanyList.setCompany(Arrays.asList(beta, alpha));
+        uniqueCompanyList.mark(beta);
+        uniqueCompanyList.sortCompanyListByName();
+        CompanyListSnapshot snapshot = uniqueCompanyList.snapshot();
+
+        uniqueCompanyList.setCompany(Collections.singletonList(BMW));
+        uniqueCompanyList.restore(snapshot);
+        ObservableList<Company> restored = uniqueCompanyList.asUnmodifiableObservableList();
+        assertEquals(Arrays.asList(alpha, beta), restored);
+        assertTrue(restored.get(1).isMarked());
+        // the companies are shared with the snapshot rather than copied
+        assertTrue(restored.get(0) == alpha);
+        assertTrue(restored.get(1) == snapshot.getCompanies().get(1));
+
+        // the restored companies can be changed without changing the snapshot
+        uniqueCompanyList.unmark(restored.get(1));
+        uniqueCompanyList.remove(alpha);
+        assertTrue(snapshot.getCompanies().get(1).isMarked());
+        uniqueCompanyList.restore(snapshot);
+        assertEquals(Arrays.asList(alpha, beta), restored);
+        assertTrue(restored.get(1).isMarked());
+    }
+
     @Test
     public void setCompanies_nullUniqueCompanyList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCompanyList.setCompany((UniqueCompanyList) null));
@@ -0,0 +1,56 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.AMAZON;
+import static seedu.address.testutil.TypicalCompanies.getTypicalCompanies;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class WordPrefixIndexTest {
+
+    private final WordPrefixIndex index = new WordPrefixIndex();
+
+    @Test
+    public void find_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.find("  "));
+    }
+
+    @Test
+    public void find_sameResultsAsPredicate() {
+        List<Company> companies = getTypicalCompanies();
+        companies.forEach(index::add);
+
+        for (String keyword : new String[] {"a", "Ama", "AMAZON", " soft ", "software eng", "engineer", "zzz"}) {
+            Set<Company> expected = companies.stream()
+                    .filter(new NameContainsKeywordsPredicate(keyword))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(index.find(keyword)), keyword);
+        }
+    }
+
+    @Test
+    public void getTerms_wholeNamesTagsAndWords() {
+        Company company = new CompanyBuilder().withName("Big  Tech Co").withTags("Data").build();
+        assertEquals(Set.of("big  tech co", "big", "tech", "co", "data"), WordPrefixIndex.getTerms(company));
+    }
+
+    @Test
+    public void remove_companyRemoved_notFound() {
+        Company editedAmazon = new CompanyBuilder(AMAZON).withName("Zalando").build();
+        index.add(AMAZON);
+        index.remove(AMAZON);
+        index.add(editedAmazon);
+
+        assertTrue(index.find("Amazon").isEmpty());
+        assertEquals(Set.of(editedAmazon), new HashSet<>(index.find("zal")));
+    }
+}
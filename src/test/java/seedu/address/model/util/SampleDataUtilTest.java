@@ -0,0 +1,35 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.InternBook;
+import seedu.address.model.company.Company;
+
+public class SampleDataUtilTest {
+
+    @Test
+    public void getSyntheticCompany_sameIndex_sameCompany() {
+        Company company = SampleDataUtil.getSyntheticCompany(42);
+        Company sameCompany = SampleDataUtil.getSyntheticCompany(42);
+        assertEquals(company, sameCompany);
+        assertEquals(company.isMarked(), sameCompany.isMarked());
+    }
+
+    @Test
+    public void getSyntheticCompany_differentIndex_differentCompany() {
+        assertFalse(SampleDataUtil.getSyntheticCompany(1).equals(SampleDataUtil.getSyntheticCompany(2)));
+    }
+
+    @Test
+    public void getSyntheticInternBook_coversOptionalFields() {
+        InternBook internBook = SampleDataUtil.getSyntheticInternBook(100);
+        assertEquals(100, internBook.getCompanyList().size());
+        assertTrue(internBook.getCompanyList().stream().anyMatch(company -> !company.getPhone().isPhonePresent()));
+        assertTrue(internBook.getCompanyList().stream().anyMatch(company -> !company.getEndDate().isDatePresent()));
+        assertTrue(internBook.getCompanyList().stream().anyMatch(Company::isMarked));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.AMAZON;
+import static seedu.address.testutil.TypicalCompanies.HONDA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveSettings;
+import seedu.address.model.InternBook;
+import seedu.address.model.ReadOnlyInternBook;
+import seedu.address.model.company.Company;
+import seedu.address.testutil.CompanyBuilder;
+
+public class BackgroundInternBookSaverTest {
+    private static final SaveSettings NEVER_DUE = new SaveSettings(60_000, 60_000);
+    private static final SaveSettings IMMEDIATE = new SaveSettings(0, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_burstOfChanges_savesLatestSnapshotOnce() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        AtomicInteger writes = new AtomicInteger();
+        JsonInternBookStorage storage = new JsonInternBookStorage(filePath) {
+            @Override
+            public void saveInternBook(ReadOnlyInternBook internBook, Path path) throws IOException {
+                writes.incrementAndGet();
+                super.saveInternBook(internBook, path);
+            }
+        };
+
+        InternBook internBook = new InternBook();
+        BackgroundInternBookSaver saver = new BackgroundInternBookSaver(storage, NEVER_DUE);
+        internBook.addCompany(new CompanyBuilder(AMAZON).build());
+        saver.submit(internBook);
+        internBook.addCompany(new CompanyBuilder(HONDA).build());
+        saver.submit(internBook);
+        saver.close();
+
+        assertEquals(1, writes.get());
+        assertEquals(internBook, new InternBook(storage.readInternBook().get()));
+    }
+
+    @Test
+    public void submit_changedAfterSubmit_savesStateAtSubmit() throws Exception {
+        JsonInternBookStorage storage = new JsonInternBookStorage(testFolder.resolve("internBook.json"));
+        Company amazon = new CompanyBuilder(AMAZON).build();
+        InternBook internBook = new InternBook();
+        internBook.addCompany(amazon);
+
+        BackgroundInternBookSaver saver = new BackgroundInternBookSaver(storage, NEVER_DUE);
+        saver.submit(internBook);
+        internBook.markCompany(amazon);
+        saver.close();
+
+        assertFalse(storage.readInternBook().get().getCompanyList().get(0).isMarked());
+    }
+
+    @Test
+    public void submit_writeFails_reportsErrorAndKeepsSnapshotForFlush() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonInternBookStorage storage = new JsonInternBookStorage(testFolder.resolve("internBook.json")) {
+            @Override
+            public void saveInternBook(ReadOnlyInternBook internBook, Path path) throws IOException {
+                throw failure;
+            }
+        };
+        CountDownLatch reported = new CountDownLatch(1);
+
+        BackgroundInternBookSaver saver = new BackgroundInternBookSaver(storage, IMMEDIATE);
+        saver.setErrorHandler(e -> {
+            if (e == failure) {
+                reported.countDown();
+            }
+        });
+        saver.submit(new InternBook());
+
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        assertThrows(IOException.class, saver::flush);
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ADIDAS;
+import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.InternBook;
+import seedu.address.model.ReadOnlyInternBook;
+import seedu.address.model.company.Company;
+import seedu.address.testutil.CompanyBuilder;
+
+public class BinaryInternBookStorageTest {
+    private static final Path JSON_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonInternBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readInternBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryInternBookStorage(testFolder.resolve("missing.bin")).readInternBook().isPresent());
+    }
+
+    @Test
+    public void readInternBook_notBinaryFormat_exceptionThrown() {
+        BinaryInternBookStorage storage =
+                new BinaryInternBookStorage(JSON_TEST_DATA_FOLDER.resolve("notJsonFormatInternBook.json"));
+        assertThrows(DataLoadingException.class, storage::readInternBook);
+    }
+
+    @Test
+    public void readInternBook_laterMinorVersion_extraFieldsSkipped() throws Exception {
+        Path filePath = testFolder.resolve("internBook.bin");
+        writeSingleCompanyFile(filePath, BinaryInternBookStorage.FORMAT_MAJOR_VERSION,
+                BinaryInternBookStorage.FORMAT_MINOR_VERSION + 1);
+
+        ReadOnlyInternBook readBack = new BinaryInternBookStorage(filePath).readInternBook().get();
+        assertEquals(1, readBack.getCompanyList().size());
+        assertEquals("Extra Fields", readBack.getCompanyList().get(0).getName().fullName);
+        assertEquals(42, readBack.getCompanyList().get(0).getId());
+    }
+
+    @Test
+    public void readInternBook_laterMajorVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("internBook.bin");
+        writeSingleCompanyFile(filePath, BinaryInternBookStorage.FORMAT_MAJOR_VERSION + 1, 0);
+
+        assertThrows(DataLoadingException.class, new BinaryInternBookStorage(filePath)::readInternBook);
+    }
+
+    @Test
+    public void readAndSaveInternBook_allInOrder_success() throws Exception {
+        BinaryInternBookStorage storage = new BinaryInternBookStorage(testFolder.resolve("internBook.bin"));
+        InternBook original = InternBook.snapshotOf(getTypicalInternBook());
+        Company withoutOptionalFields = new CompanyBuilder(ADIDAS).withPhone().withStartDate().withEndDate()
+                .withTags().build();
+        original.addCompany(withoutOptionalFields);
+        original.markCompany(original.getCompanyList().get(0));
+
+        storage.saveInternBook(original);
+        ReadOnlyInternBook readBack = storage.readInternBook().get();
+
+        assertEquals(original, new InternBook(readBack));
+        for (int i = 0; i < original.getCompanyList().size(); i++) {
+            assertEquals(original.getCompanyList().get(i).isMarked(), readBack.getCompanyList().get(i).isMarked());
+            assertEquals(original.getCompanyList().get(i).getId(), readBack.getCompanyList().get(i).getId());
+        }
+        assertFalse(readBack.getCompanyList().get(original.getCompanyList().size() - 1).getPhone().isPhonePresent());
+    }
+
+    @Test
+    public void getBinaryFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryInternBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryInternBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        InternBook original = getTypicalInternBook();
+        JsonInternBookStorage json = new JsonInternBookStorage(testFolder.resolve("internBook.json"));
+        BinaryInternBookStorage binary = new BinaryInternBookStorage(testFolder.resolve("internBook.bin"));
+        JsonInternBookStorage jsonCopy = new JsonInternBookStorage(testFolder.resolve("copy.json"));
+        json.saveInternBook(original);
+
+        assertTrue(InternBookFileConverter.convert(json, binary));
+        assertTrue(InternBookFileConverter.convert(binary, jsonCopy));
+        assertEquals(original, new InternBook(jsonCopy.readInternBook().get()));
+        assertFalse(InternBookFileConverter.convert(
+                new JsonInternBookStorage(testFolder.resolve("missing.json")), binary));
+    }
+
+    /**
+     * Writes a binary data file of the given version at {@code filePath}, holding one company without tags whose
+     * record ends with a field that the current version of the format does not know.
+     */
+    private static void writeSingleCompanyFile(Path filePath, int majorVersion, int minorVersion) throws Exception {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        record.writeUTF("Extra Fields");
+        record.writeBoolean(false);
+        record.writeUTF("extra@example.com");
+        record.writeLong(LocalDate.of(2024, 1, 1).toEpochDay());
+        record.writeLong(LocalDate.of(2024, 6, 1).toEpochDay());
+        record.writeBoolean(false);
+        record.writeInt(0);
+        record.writeLong(42);
+        record.writeInt(12345);
+
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryInternBookStorage.MAGIC);
+            out.writeShort(majorVersion);
+            out.writeShort(minorVersion);
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ADIDAS;
+import static seedu.address.testutil.TypicalCompanies.AMAZON;
+import static seedu.address.testutil.TypicalCompanies.APPLE;
+import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.durability.Durability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.InternBook;
+import seedu.address.model.ReadOnlyInternBook;
+import seedu.address.model.VersionedInternBook;
+import seedu.address.model.company.Company;
+import seedu.address.testutil.CompanyBuilder;
+
+public class JournaledInternBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveInternBook_smallChanges_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        internBook.markCompany(internBook.getCompanyList().get(1));
+        storage.saveInternBook(internBook);
+        internBook.addCompany(new CompanyBuilder(ADIDAS).build());
+        storage.saveInternBook(internBook);
+        internBook.setCompany(internBook.getCompanyList().get(0), new CompanyBuilder(AMAZON).withPhone("999").build());
+        storage.saveInternBook(internBook);
+        internBook.removeCompany(new CompanyBuilder(APPLE).build());
+        storage.saveInternBook(internBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.exists(JournaledInternBookStorage.getJournalFilePath(filePath)));
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void saveInternBook_sortAndClear_replayedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+
+        internBook.sortCompanyListByEndDate();
+        internBook.markCompany(internBook.getCompanyList().get(0));
+        storage.saveInternBook(internBook);
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+
+        internBook.setCompanies(new InternBook().getCompanyList());
+        storage.saveInternBook(internBook);
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void saveInternBook_changesWhileSorted_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        internBook.sortCompanyListByEndDate();
+        storage.saveInternBook(internBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        internBook.addCompany(new CompanyBuilder(ADIDAS).build());
+        storage.saveInternBook(internBook);
+        internBook.setCompany(new CompanyBuilder(AMAZON).build(),
+                new CompanyBuilder(AMAZON).withName("Zalando").build());
+        storage.saveInternBook(internBook);
+        internBook.sortCompanyListByName();
+        internBook.removeCompany(new CompanyBuilder(APPLE).build());
+        storage.saveInternBook(internBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void saveInternBook_journalPastThreshold_compactsIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath, false, 100, Durability.DATA);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        for (Company company : internBook.getCompanyList()) {
+            internBook.markCompany(company);
+            storage.saveInternBook(internBook);
+        }
+
+        Path journalPath = JournaledInternBookStorage.getJournalFilePath(filePath);
+        assertTrue(!Files.exists(journalPath) || Files.size(journalPath) <= 100);
+        assertFalse(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void readInternBook_journalForOtherDataFile_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+        internBook.addCompany(new CompanyBuilder(ADIDAS).build());
+        storage.saveInternBook(internBook);
+
+        // Data file replaced without going through the journal, e.g. a compaction that was interrupted
+        InternBook replacement = InternBook.snapshotOf(getTypicalInternBook());
+        replacement.removeCompany(new CompanyBuilder(APPLE).build());
+        new JsonInternBookStorage(filePath).saveInternBook(replacement);
+
+        assertSameData(replacement, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void readInternBook_partiallyWrittenRecord_recordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+        internBook.markCompany(internBook.getCompanyList().get(0));
+        storage.saveInternBook(internBook);
+
+        Path journalPath = JournaledInternBookStorage.getJournalFilePath(filePath);
+        long journalSize = Files.size(journalPath);
+        Files.write(journalPath, "{\"op\":\"del".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+        assertEquals(journalSize, Files.size(journalPath));
+    }
+
+    @Test
+    public void saveInternBook_companyRemovedAndAddedAgain_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Company first = internBook.getCompanyList().get(0);
+        internBook.removeCompany(first);
+        internBook.addCompany(first);
+        Company last = internBook.getCompanyList().get(internBook.getCompanyList().size() - 1);
+        internBook.removeCompany(last);
+        internBook.addCompany(new CompanyBuilder(last).build());
+        storage.saveInternBook(internBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void saveInternBook_sortedDataFileThenAdd_addedAtSortedPosition() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        internBook.sortCompanyListByName();
+        storage.saveInternBook(internBook);
+
+        internBook.addCompany(new CompanyBuilder(ADIDAS).build());
+        storage.saveInternBook(internBook);
+
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void saveInternBook_undoAndRedo_replayedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        VersionedInternBook internBook = new VersionedInternBook(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+
+        internBook.addCompany(new CompanyBuilder(ADIDAS).build());
+        internBook.commit();
+        storage.saveInternBook(internBook);
+        internBook.markCompany(internBook.getCompanyList().get(0));
+        internBook.commit();
+        storage.saveInternBook(internBook);
+
+        internBook.undo();
+        storage.saveInternBook(internBook);
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+
+        internBook.redo();
+        storage.saveInternBook(internBook);
+        assertSameData(internBook, new JournaledInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void saveInternBook_dataReplacedAsWhole_compactsIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+        internBook.addCompany(new CompanyBuilder(ADIDAS).build());
+        storage.saveInternBook(internBook);
+
+        internBook.resetData(new InternBook());
+        storage.saveInternBook(internBook);
+
+        assertFalse(Files.exists(JournaledInternBookStorage.getJournalFilePath(filePath)));
+        assertSameData(internBook, new JsonInternBookStorage(filePath).readInternBook().get());
+    }
+
+    @Test
+    public void readInternBook_recordDoesNotFitData_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("internBook.json");
+        JournaledInternBookStorage storage = new JournaledInternBookStorage(filePath);
+        InternBook internBook = InternBook.snapshotOf(getTypicalInternBook());
+        storage.saveInternBook(internBook);
+        Company company = internBook.getCompanyList().get(0);
+        internBook.markCompany(company);
+        storage.saveInternBook(internBook);
+
+        // a journal edited by hand, which marks the company that is already marked again
+        Files.write(JournaledInternBookStorage.getJournalFilePath(filePath),
+                ("{\"op\":\"mark\",\"id\":" + company.getId() + "}\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledInternBookStorage(filePath).readInternBook());
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same companies as {@code expected}, in the same order and with the same
+     * application status and ids.
+     */
+    private void assertSameData(ReadOnlyInternBook expected, ReadOnlyInternBook actual) {
+        assertEquals(expected.getCompanyList(), actual.getCompanyList());
+        for (int i = 0; i < expected.getCompanyList().size(); i++) {
+            assertEquals(expected.getCompanyList().get(i).isMarked(), actual.getCompanyList().get(i).isMarked());
+            assertEquals(expected.getCompanyList().get(i).getId(), actual.getCompanyList().get(i).getId());
+        }
+    }
+}
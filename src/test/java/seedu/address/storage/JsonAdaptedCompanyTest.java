@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.storage.JsonAdaptedCompany.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.BYTEDANCE;
@@ -12,6 +13,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.company.Company;
 import seedu.address.model.company.Email;
 import seedu.address.model.company.Name;
 import seedu.address.model.company.Phone;
@@ -23,6 +25,7 @@ public class JsonAdaptedCompanyTest {
     private static final String INVALID_EMAIL = "example.com";
     private static final String INVALID_TAG = "#software engineer";
 
+    private static final Long VALID_ID = BYTEDANCE.getId();
     private static final String VALID_NAME = BYTEDANCE.getName().toString();
     private static final String VALID_PHONE = BYTEDANCE.getPhone().toString();
     private static final String VALID_EMAIL = BYTEDANCE.getEmail().toString();
@@ -38,20 +41,38 @@ public class JsonAdaptedCompanyTest {
     public void toModelType_validCompanyDetails_returnsCompany() throws Exception {
         JsonAdaptedCompany company = new JsonAdaptedCompany(BYTEDANCE);
         assertEquals(BYTEDANCE, company.toModelType());
+        assertEquals(BYTEDANCE.getId(), company.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsCompanyWithNewId() throws Exception {
+        JsonAdaptedCompany company = new JsonAdaptedCompany(null, VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_START_DATE, VALID_END_DATE, VALID_TAGS, VALID_IS_MARKED);
+        Company modelCompany = company.toModelType();
+        assertEquals(BYTEDANCE, modelCompany);
+        assertNotEquals(BYTEDANCE.getId(), modelCompany.getId());
+        assertNotEquals(modelCompany.getId(), company.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedCompany company = new JsonAdaptedCompany(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_START_DATE, VALID_END_DATE, VALID_TAGS, VALID_IS_MARKED);
+        assertThrows(IllegalValueException.class, Company.MESSAGE_ID_CONSTRAINTS, company::toModelType);
     }
 
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedCompany company =
-                new JsonAdaptedCompany(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_START_DATE, VALID_END_DATE,
-                        VALID_TAGS, VALID_IS_MARKED);
+                new JsonAdaptedCompany(VALID_ID, INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_START_DATE,
+                        VALID_END_DATE, VALID_TAGS, VALID_IS_MARKED);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, company::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedCompany company = new JsonAdaptedCompany(null, VALID_PHONE, VALID_EMAIL, VALID_START_DATE,
+        JsonAdaptedCompany company = new JsonAdaptedCompany(VALID_ID, null, VALID_PHONE, VALID_EMAIL, VALID_START_DATE,
                 VALID_END_DATE, VALID_TAGS, VALID_IS_MARKED);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, company::toModelType);
@@ -60,8 +81,8 @@ public class JsonAdaptedCompanyTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedCompany company =
-                new JsonAdaptedCompany(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_START_DATE, VALID_END_DATE,
-                        VALID_TAGS, VALID_IS_MARKED);
+                new JsonAdaptedCompany(VALID_ID, VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_START_DATE,
+                        VALID_END_DATE, VALID_TAGS, VALID_IS_MARKED);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, company::toModelType);
     }
@@ -69,15 +90,15 @@ public class JsonAdaptedCompanyTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedCompany company =
-                new JsonAdaptedCompany(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_START_DATE, VALID_END_DATE,
-                        VALID_TAGS, VALID_IS_MARKED);
+                new JsonAdaptedCompany(VALID_ID, VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_START_DATE,
+                        VALID_END_DATE, VALID_TAGS, VALID_IS_MARKED);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, company::toModelType);
     }
 
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
-        JsonAdaptedCompany company = new JsonAdaptedCompany(VALID_NAME, VALID_PHONE, null, VALID_START_DATE,
+        JsonAdaptedCompany company = new JsonAdaptedCompany(VALID_ID, VALID_NAME, VALID_PHONE, null, VALID_START_DATE,
                 VALID_END_DATE, VALID_TAGS, VALID_IS_MARKED);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, company::toModelType);
@@ -88,8 +109,8 @@ public class JsonAdaptedCompanyTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedCompany company =
-                new JsonAdaptedCompany(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_START_DATE, VALID_END_DATE,
-                        invalidTags, VALID_IS_MARKED);
+                new JsonAdaptedCompany(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_START_DATE,
+                        VALID_END_DATE, invalidTags, VALID_IS_MARKED);
         assertThrows(IllegalValueException.class, company::toModelType);
     }
 
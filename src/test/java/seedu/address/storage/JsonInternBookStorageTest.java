@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.AMAZON;
 import static seedu.address.testutil.TypicalCompanies.HONDA;
@@ -9,12 +10,14 @@ import static seedu.address.testutil.TypicalCompanies.IBM;
 import static seedu.address.testutil.TypicalCompanies.getTypicalInternBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.durability.Durability;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.InternBook;
 import seedu.address.model.ReadOnlyInternBook;
@@ -60,6 +63,16 @@ public class JsonInternBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readInternBook("invalidAndValidCompanyInternBook.json"));
     }
 
+    @Test
+    public void readInternBook_duplicateCompanies_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readInternBook("duplicateCompanyInternBook.json"));
+    }
+
+    @Test
+    public void readInternBook_truncatedFile_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readInternBook("truncatedInternBook.json"));
+    }
+
     @Test
     public void readAndSaveInternBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -87,6 +100,25 @@ public class JsonInternBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveInternBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        InternBook original = getTypicalInternBook();
+
+        JsonInternBookStorage jsonAddressBookStorage = new JsonInternBookStorage(filePath, true, Durability.DATA);
+        jsonAddressBookStorage.saveInternBook(original);
+        assertFalse(Files.readString(filePath).contains("\n"));
+
+        ReadOnlyInternBook readBack = jsonAddressBookStorage.readInternBook().get();
+        assertEquals(original, new InternBook(readBack));
+
+        // Pretty-printed files can still be read by a compact storage and vice versa
+        new JsonInternBookStorage(filePath).saveInternBook(original);
+        assertTrue(Files.readString(filePath).contains("\n"));
+        readBack = jsonAddressBookStorage.readInternBook().get();
+        assertEquals(original, new InternBook(readBack));
+    }
+
     @Test
     public void saveInternBook_nullInternBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInternBook(null, "SomeFile.json"));
@@ -24,6 +24,7 @@ public class CompanyBuilder {
     public static final String DEFAULT_STARTDATE = "2024-07-07";
     public static final String DEFAULT_ENDDATE = "2024-08-08";
 
+    private Long id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -45,6 +46,7 @@ public class CompanyBuilder {
 
     /**
      * Initializes the CompanyBuilder with the data of {@code companyToCopy}.
+     * The company built is given a new id unless {@link #withId(long)} is called.
      */
     public CompanyBuilder(Company companyToCopy) {
         name = companyToCopy.getName();
@@ -55,6 +57,14 @@ public class CompanyBuilder {
         tags = new HashSet<>(companyToCopy.getTags());
     }
 
+    /**
+     * Sets the id of the {@code Company} that we are building.
+     */
+    public CompanyBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Company} that we are building.
      */
@@ -131,7 +141,12 @@ public class CompanyBuilder {
         return this;
     }
 
+    /**
+     * Builds the {@code Company}, with a new id if none was set.
+     */
     public Company build() {
-        return new Company(name, phone, email, startDate, endDate, tags);
+        return id == null
+                ? new Company(name, phone, email, startDate, endDate, tags)
+                : new Company(id, name, phone, email, startDate, endDate, tags);
     }
 }